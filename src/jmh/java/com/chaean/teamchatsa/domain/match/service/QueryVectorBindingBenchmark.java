@@ -0,0 +1,117 @@
+package com.chaean.teamchatsa.domain.match.service;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.postgresql.core.Oid;
+import org.postgresql.jdbc.ArrayEncoding;
+import org.postgresql.jdbc.ArrayEncoding.ArrayEncoder;
+
+/**
+ * 추천 쿼리 벡터 파라미터의 요청당 직렬화 비용 비교 (384차원)
+ * - textLiteral: 변경 전 방식 (StringBuilder로 "[f,f,...]" 문자열 생성)
+ * - pgjdbcTextArray: pgjdbc 배열 인코더의 텍스트 표현 ("{f,f,...}", 바이너리 전송을 쓰지 않을 때의 드라이버 출력)
+ * - pgjdbcBinaryArray: pgjdbc 배열 인코더의 float4[] 바이너리 표현
+ *   (createArrayOf("float4", ...)/setObject(float[])가 바이너리 전송 시 만드는 바이트와 같은 인코더)
+ * - textRoundTrip / binaryRoundTrip: 위 인코딩 + 서버 측 수신 파싱의 근사치
+ *
+ * 왕복(RoundTrip) 수치는 서버의 vector_in/array_recv를 Float.parseFloat/ByteBuffer 디코딩으로 흉내 낸
+ * 클라이언트 측 근사치이며, 실제 서버 파싱 비용과 네트워크 전송량은 포함하지 않음
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryVectorBindingBenchmark {
+
+	private static final int DIMENSIONS = 384;
+	// float4 배열 바이너리 포맷 헤더: ndim, hasNull, elemOid, length, lowerBound
+	private static final int ARRAY_HEADER_BYTES = 20;
+
+	private float[] vector;
+	private ArrayEncoder<float[]> encoder;
+
+	@Setup
+	public void setUp() throws SQLException {
+		Random random = new Random(42);
+		vector = new float[DIMENSIONS];
+		for (int i = 0; i < DIMENSIONS; i++) {
+			vector[i] = random.nextFloat() * 2 - 1;
+		}
+		encoder = ArrayEncoding.getArrayEncoder(vector);
+	}
+
+	@Benchmark
+	public String textLiteral() {
+		return toVectorLiteral(vector);
+	}
+
+	@Benchmark
+	public String pgjdbcTextArray() {
+		return encoder.toArrayString(',', vector);
+	}
+
+	@Benchmark
+	public byte[] pgjdbcBinaryArray() throws SQLException {
+		return toBinary(vector);
+	}
+
+	@Benchmark
+	public float[] textRoundTrip() {
+		return parseVectorLiteral(toVectorLiteral(vector));
+	}
+
+	@Benchmark
+	public float[] binaryRoundTrip() throws SQLException {
+		return decodeFloat4Array(toBinary(vector));
+	}
+
+	// 원시 float 배열은 고정 OID(float4)를 쓰므로 인코딩에 커넥션의 타입 조회가 필요 없음
+	private byte[] toBinary(float[] vector) throws SQLException {
+		return encoder.toBinaryRepresentation(null, vector, Oid.FLOAT4_ARRAY);
+	}
+
+	private static String toVectorLiteral(float[] vector) {
+		StringBuilder builder = new StringBuilder("[");
+		for (int i = 0; i < vector.length; i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append(vector[i]);
+		}
+		builder.append(']');
+		return builder.toString();
+	}
+
+	// 서버 vector_in 파싱의 근사치
+	private static float[] parseVectorLiteral(String literal) {
+		String[] tokens = literal.substring(1, literal.length() - 1).split(",");
+		float[] result = new float[tokens.length];
+		for (int i = 0; i < tokens.length; i++) {
+			result[i] = Float.parseFloat(tokens[i]);
+		}
+		return result;
+	}
+
+	// 서버 array_recv 수신의 근사치 (1차원, NULL 없는 float4 배열)
+	private static float[] decodeFloat4Array(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		buffer.position(12);
+		float[] result = new float[buffer.getInt()];
+		buffer.position(ARRAY_HEADER_BYTES);
+		for (int i = 0; i < result.length; i++) {
+			buffer.getInt();
+			result[i] = buffer.getFloat();
+		}
+		return result;
+	}
+}
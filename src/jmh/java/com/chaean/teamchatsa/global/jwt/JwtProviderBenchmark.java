@@ -0,0 +1,62 @@
+package com.chaean.teamchatsa.global.jwt;
+
+import com.chaean.teamchatsa.domain.user.model.UserRole;
+import com.chaean.teamchatsa.global.jwt.JwtProvider.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 요청당 JWT 인증 비용 비교
+ * - legacyParse: 변경 전 방식 (매 요청마다 키 생성 + 파서 빌드 + 검증)
+ * - precomputedParser: 기동 시 생성한 키/파서로 검증 (캐시 미스 시 비용)
+ * - cachedVerifyHit: 검증 결과 캐시 적중 (토큰 문자열 키 조회, 현재 방식의 반복 요청 비용)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtProviderBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+	private JwtProvider jwtProvider;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtProvider = new JwtProvider(SECRET, 30, 14);
+		token = jwtProvider.createAccessToken(1L, UserRole.USER);
+		// 적중 측정용으로 미리 적재
+		jwtProvider.verify(token);
+	}
+
+	@Benchmark
+	public Claims legacyParse() {
+		return Jwts.parserBuilder()
+				.setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+				.build()
+				.parseClaimsJws(token)
+				.getBody();
+	}
+
+	@Benchmark
+	public Claims precomputedParser() {
+		return jwtProvider.parseClaims(token);
+	}
+
+	@Benchmark
+	public VerifiedToken cachedVerifyHit() {
+		return jwtProvider.verify(token);
+	}
+}
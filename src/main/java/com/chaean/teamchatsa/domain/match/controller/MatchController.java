@@ -79,7 +79,8 @@ public class MatchController {
 		return ResponseEntity.status(HttpStatus.NO_CONTENT).body(ApiResponse.success(null));
 	}
 
-	@Operation(summary = "매치 게시물 목록 조회 API", description = "매치 게시물 목록을 조회합니다.(무한스크롤)")
+	@Operation(summary = "매치 게시물 목록 조회 API",
+			description = "매치 게시물 목록을 조회합니다.(무한스크롤) cursor 파라미터를 보내면 커서 기반으로 조회하며, 첫 페이지는 빈 cursor로 요청하고 이후에는 응답의 nextCursor를 사용합니다.")
 	@GetMapping("")
 	public ResponseEntity<ApiResponse<SliceResponse<MatchPostListResponse>>> getMatches(
 			@ModelAttribute MatchPostSearchRequest req
@@ -16,6 +16,9 @@ public class MatchPostSearchRequest {
 	private int page = 0;
 	private int size = 10;
 
+	// 커서 기반 페이징 (값이 있으면 page 대신 사용, 첫 페이지는 빈 값으로 요청)
+	private String cursor;
+
 	// 필터
 	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
 	private LocalDate startDate;
@@ -28,4 +31,9 @@ public class MatchPostSearchRequest {
 	private Integer headCount;
 
 	private String region;
+
+	/** 커서 기반 페이징 요청 여부 */
+	public boolean isCursorMode() {
+		return cursor != null;
+	}
 }
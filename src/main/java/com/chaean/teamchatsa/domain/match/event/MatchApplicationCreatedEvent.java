@@ -1,15 +1,19 @@
 package com.chaean.teamchatsa.domain.match.event;
 
+import com.chaean.teamchatsa.global.outbox.DomainEvent;
 import java.time.LocalDateTime;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 매치 신청 생성 이벤트
  */
 @Getter
 @AllArgsConstructor
-public class MatchApplicationCreatedEvent {
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class MatchApplicationCreatedEvent implements DomainEvent {
 
 	private final Long matchId;
 	private final Long postOwnerTeamId;  // 매치 게시물 작성 팀 ID
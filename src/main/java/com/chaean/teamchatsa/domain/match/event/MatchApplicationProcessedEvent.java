@@ -1,16 +1,20 @@
 package com.chaean.teamchatsa.domain.match.event;
 
 import com.chaean.teamchatsa.domain.match.model.MatchApplicationStatus;
+import com.chaean.teamchatsa.global.outbox.DomainEvent;
 import java.time.LocalDateTime;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 매치 신청 처리 이벤트 (승인/거절)
  */
 @Getter
 @AllArgsConstructor
-public class MatchApplicationProcessedEvent {
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class MatchApplicationProcessedEvent implements DomainEvent {
 
 	private final Long applicantTeamId;
 	private final String matchTitle;
@@ -9,6 +9,7 @@ import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MatchPostRepository extends JpaRepository<MatchPost, Long>, MatchPostRepositoryCustom {
 
@@ -73,6 +74,11 @@ public interface MatchPostRepository extends JpaRepository<MatchPost, Long>, Mat
 			@Param("limit") Integer limit
 	);
 
+	/**
+	 * 정확 추천 조회 (전체 후보 팀을 거리순 정렬)
+	 * queryVector는 float[] 그대로 real[] 배열 파라미터로 바인딩되어 드라이버가 바이너리로 전송하고,
+	 * DB에서는 real[] → vector 캐스트만 수행하므로 양쪽 모두 문자열 변환/파싱이 없음
+	 */
 	@Query(value = """
 			SELECT
 				mp.id AS matchId,
@@ -106,11 +112,92 @@ public interface MatchPostRepository extends JpaRepository<MatchPost, Long>, Mat
 			""", nativeQuery = true)
 	List<MatchRecommendationProjection> findRecommendedMatches(
 			@Param("myTeamId") Long myTeamId,
-			@Param("queryVector") String queryVector,
+			@Param("queryVector") float[] queryVector,
 			@Param("region") String region,
 			@Param("levels") List<Integer> levels,
 			@Param("minWinRate") double minWinRate,
 			@Param("maxWinRate") double maxWinRate,
 			@Param("currentDateTime") LocalDateTime currentDateTime
 	);
+
+	/**
+	 * 2단계 추천 조회 (1단계: HNSW 인덱스로 스타일 벡터가 가까운 팀 top-K, 2단계: 후보 팀의 매치에 정형 필터 적용)
+	 * ef_search는 트랜잭션 범위(set_config(..., true))로만 적용되므로 같은 트랜잭션에서 조회
+	 * ef_search가 후보 수보다 작으면 1단계 결과가 ef_search개로 잘리므로 최소 후보 수 이상으로 설정
+	 */
+	@Transactional(readOnly = true)
+	default List<MatchRecommendationProjection> findRecommendedMatchesByAnn(
+			Long myTeamId,
+			float[] queryVector,
+			String region,
+			List<Integer> levels,
+			double minWinRate,
+			double maxWinRate,
+			LocalDateTime currentDateTime,
+			int candidateLimit,
+			int efSearch
+	) {
+		setHnswEfSearch(String.valueOf(Math.max(efSearch, candidateLimit)));
+		return findRecommendedMatchesFromNearestTeams(
+				myTeamId, queryVector, region, levels, minWinRate, maxWinRate, currentDateTime, candidateLimit
+		);
+	}
+
+	@Query(value = "SELECT set_config('hnsw.ef_search', :efSearch, true)", nativeQuery = true)
+	String setHnswEfSearch(@Param("efSearch") String efSearch);
+
+	@Query(value = """
+			WITH candidate_team AS (
+				SELECT
+					t.id,
+					t.name,
+					t.level,
+					t.win_rate,
+					t.style_vector <=> CAST(:queryVector AS vector) AS distance
+				FROM
+					app.team t
+				WHERE
+					t.deleted_at IS NULL
+				ORDER BY
+					t.style_vector <=> CAST(:queryVector AS vector)
+				LIMIT :candidateLimit
+			)
+			SELECT
+				mp.id AS matchId,
+				mp.title AS matchTitle,
+				mp.place_name AS placeName,
+				mp.match_date AS matchDateTime,
+				ct.id AS teamId,
+				ct.name AS teamName,
+				mp.address AS matchAddress,
+				ct.level AS teamLevel
+			FROM
+				candidate_team ct
+			JOIN
+				app.match_post mp
+			    ON mp.team_id = ct.id
+			WHERE
+				mp.deleted_at IS NULL
+				AND mp.team_id <> :myTeamId
+				AND mp.status = 'OPEN'
+				AND mp.match_date >= :currentDateTime
+				AND ct.level IN (:levels)
+				AND ct.win_rate BETWEEN :minWinRate AND :maxWinRate
+				AND (:region IS NULL OR mp.region = :region)
+			ORDER BY
+				ct.distance,
+				mp.match_date ASC,
+				mp.id DESC
+			LIMIT 10
+			""", nativeQuery = true)
+	List<MatchRecommendationProjection> findRecommendedMatchesFromNearestTeams(
+			@Param("myTeamId") Long myTeamId,
+			@Param("queryVector") float[] queryVector,
+			@Param("region") String region,
+			@Param("levels") List<Integer> levels,
+			@Param("minWinRate") double minWinRate,
+			@Param("maxWinRate") double maxWinRate,
+			@Param("currentDateTime") LocalDateTime currentDateTime,
+			@Param("candidateLimit") int candidateLimit
+	);
 }
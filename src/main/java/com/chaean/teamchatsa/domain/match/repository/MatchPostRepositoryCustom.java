@@ -3,6 +3,7 @@ package com.chaean.teamchatsa.domain.match.repository;
 import com.chaean.teamchatsa.domain.match.dto.request.MatchPostSearchRequest;
 import com.chaean.teamchatsa.domain.match.dto.response.MatchPostDetailResponse;
 import com.chaean.teamchatsa.domain.match.dto.response.MatchPostListResponse;
+import com.chaean.teamchatsa.global.common.dto.SliceResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
@@ -13,6 +14,11 @@ public interface MatchPostRepositoryCustom {
 	 */
 	Slice<MatchPostListResponse> findMatchPostsWithPagination(MatchPostSearchRequest searchReq, Pageable pageable);
 
+	/**
+	 * MatchPost 목록 조회 (커서 기반 페이징 + 필터링)
+	 */
+	SliceResponse<MatchPostListResponse> findMatchPostsWithCursor(MatchPostSearchRequest searchReq);
+
 	/**
 	 * 특정 팀의 MatchPost 목록 조회 (페이지네이션)
 	 */
@@ -6,8 +6,11 @@ import com.chaean.teamchatsa.domain.match.dto.response.MatchPostListResponse;
 import com.chaean.teamchatsa.domain.match.model.MatchPostStatus;
 import com.chaean.teamchatsa.domain.match.model.QMatchPost;
 import com.chaean.teamchatsa.domain.team.model.QTeam;
+import com.chaean.teamchatsa.global.common.dto.SliceResponse;
+import com.chaean.teamchatsa.global.common.util.CursorCodec;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -70,6 +73,85 @@ public class MatchPostRepositoryImpl implements MatchPostRepositoryCustom {
 		return createSlice(content, pageable);
 	}
 
+	/**
+	 * 커서 기반 목록 조회
+	 * 오프셋 모드와 같은 정렬(match_date DESC, id DESC)을 사용해 cursor 유무와 관계없이 목록 순서가 동일하며,
+	 * 같은 순서의 부분 인덱스(V19, OPEN 전용)에서 OFFSET 없이 커서 위치부터 바로 스캔하므로 페이지마다 비용이 일정
+	 */
+	@Override
+	public SliceResponse<MatchPostListResponse> findMatchPostsWithCursor(MatchPostSearchRequest searchReq) {
+		QMatchPost mp = QMatchPost.matchPost;
+		QTeam t = QTeam.team;
+		int size = searchReq.getSize();
+
+		BooleanBuilder filterCondition = buildFilterCondition(
+				searchReq.getStartDate(), searchReq.getEndDate(),
+				searchReq.getHeadCount(), searchReq.getRegion(), mp
+		);
+
+		List<MatchPostListResponse> content = queryFactory
+				.select(Projections.constructor(
+						MatchPostListResponse.class,
+						mp.id,
+						mp.title,
+						mp.placeName,
+						mp.matchDate,
+						t.name,
+						mp.address,
+						mp.status,
+						t.level,
+						mp.headCount
+				))
+				.from(mp)
+				.leftJoin(t).on(t.id.eq(mp.teamId))
+				.where(
+						mp.status.eq(MatchPostStatus.OPEN),
+						mp.matchDate.goe(LocalDateTime.now()),
+						filterCondition,
+						cursorCondition(searchReq.getCursor(), mp)
+				)
+				.orderBy(mp.matchDate.desc(), mp.id.desc())
+				.limit(size + 1)  // hasNext 판단용
+				.fetch();
+
+		boolean hasNext = content.size() > size;
+		if (hasNext) {
+			content.remove(size);
+		}
+
+		String nextCursor = null;
+		if (hasNext && !content.isEmpty()) {
+			nextCursor = encodeCursor(content.get(content.size() - 1));
+		}
+
+		return SliceResponse.of(content, !hasNext, nextCursor);
+	}
+
+	/** 페이지 마지막 항목의 정렬 키(match_date, id)로 다음 커서 생성 */
+	static String encodeCursor(MatchPostListResponse lastItem) {
+		return CursorCodec.encode(
+				LocalDateTime.of(lastItem.getMatchDate(), lastItem.getMatchTime()), lastItem.getPostId());
+	}
+
+	/**
+	 * 커서 이후 조건 (match_date DESC, id DESC 기준)
+	 * match_date <= 커서 날짜를 함께 걸어 (…, match_date DESC, id DESC) 인덱스 범위 스캔 시작점으로 사용
+	 */
+	static BooleanExpression cursorCondition(String cursor, QMatchPost mp) {
+		if (!StringUtils.hasText(cursor)) {
+			return null;
+		}
+
+		return CursorCodec.decode(cursor, 2, parts -> {
+			LocalDateTime cursorMatchDate = LocalDateTime.parse(parts[0]);
+			Long cursorId = Long.parseLong(parts[1]);
+
+			return mp.matchDate.loe(cursorMatchDate)
+					.and(mp.matchDate.lt(cursorMatchDate)
+							.or(mp.id.lt(cursorId)));
+		});
+	}
+
 	/**
 	 * 검색 조건 필터 빌드
 	 */
@@ -7,39 +7,81 @@ import com.chaean.teamchatsa.domain.match.repository.MatchPostRepository;
 import com.chaean.teamchatsa.domain.match.repository.projection.MatchRecommendationProjection;
 import com.chaean.teamchatsa.domain.team.model.Team;
 import com.chaean.teamchatsa.domain.team.model.TeamLevel;
-import com.chaean.teamchatsa.domain.team.repository.TeamMemberRepository;
 import com.chaean.teamchatsa.domain.team.repository.TeamRepository;
+import com.chaean.teamchatsa.domain.team.service.TeamMembershipResolver;
+import com.chaean.teamchatsa.global.common.util.CacheKeyGenerator;
+import com.chaean.teamchatsa.global.common.util.QueryKeyUtils;
+import com.chaean.teamchatsa.global.common.util.TieredCacheUtil;
 import com.chaean.teamchatsa.global.exception.BusinessException;
 import com.chaean.teamchatsa.global.exception.ErrorCode;
 import com.chaean.teamchatsa.infra.ai.dto.MatchSearchIntent;
+import com.chaean.teamchatsa.infra.ai.service.EmbeddingCache;
 import com.chaean.teamchatsa.infra.ai.service.MatchSearchIntentParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * AI 매치 추천 서비스
+ * LLM 해석과 임베딩 호출은 수 초가 걸리므로 클래스 단위 트랜잭션을 두지 않고, 조회마다 짧게 커넥션을 사용
+ * (트랜잭션이 LLM 대기 동안 DB 커넥션을 점유하면 동시 추천 수가 커넥션 풀 크기로 제한됨)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class MatchRecommendationService {
 
-	private final TeamMemberRepository teamMemberRepository;
+	// 추천 쿼리의 LIMIT과 동일
+	private static final int RECOMMENDATION_LIMIT = 10;
+	// 추천 패널 새로고침 대응용으로 짧게 유지 (마감/삭제, 팀 레벨/승률 변경 시 세대 증가로 즉시 무효화)
+	private static final Duration RESULT_CACHE_TTL = Duration.ofMinutes(1);
+
+	private final TeamMembershipResolver membershipResolver;
 	private final TeamRepository teamRepository;
 	private final MatchPostRepository matchPostRepository;
-	private final EmbeddingModel embeddingModel;
+	private final EmbeddingCache embeddingCache;
 	private final MatchSearchIntentParser matchSearchIntentParser;
+	private final CacheKeyGenerator cacheKeyGen;
+	private final TieredCacheUtil cacheUtil;
+
+	// 1단계 ANN 후보 팀 수와 HNSW 탐색 폭 (요청마다 트랜잭션 범위로 적용)
+	@Value("${app.recommendation.ann-candidate-limit:200}")
+	private int annCandidateLimit;
+
+	@Value("${app.recommendation.hnsw-ef-search:200}")
+	private int hnswEfSearch;
 
 	public List<MatchRecommendationResponse> recommendMatches(Long userId, MatchRecommendationRequest req) {
 		// 추천 기준이 되는 사용자 팀을 조회
-		Long myTeamId = teamMemberRepository.findTeamIdByUserId(userId);
+		Long myTeamId = membershipResolver.findTeamId(userId);
 		if (myTeamId == null) {
 			throw new BusinessException(ErrorCode.TEAM_NOT_FOUND, "소속된 팀이 없어 매치를 추천할 수 없습니다.");
 		}
 
+		// 같은 팀의 같은 검색어는 팀 조회/LLM 해석/임베딩/벡터 검색 없이 캐시된 결과 반환
+		String cacheKey = cacheKeyGen.generateMatchRecommendationKey(
+				myTeamId, QueryKeyUtils.normalize(req.getQuery()));
+		List<MatchRecommendationResponse> cached = cacheUtil.get(
+				cacheKey,
+				new TypeReference<List<MatchRecommendationResponse>>() {
+				}
+		);
+		if (cached != null) {
+			log.info("Cache HIT: {}", cacheKey);
+			return cached;
+		}
+
+		List<MatchRecommendationResponse> response = recommend(myTeamId, req);
+		cacheUtil.set(cacheKey, response, RESULT_CACHE_TTL);
+		return response;
+	}
+
+	private List<MatchRecommendationResponse> recommend(Long myTeamId, MatchRecommendationRequest req) {
 		// 사용자 팀의 스타일과 지역 정보를 조회
 		Team myTeam = teamRepository.findById(myTeamId)
 				.orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
@@ -51,16 +93,35 @@ public class MatchRecommendationService {
 		// AI가 추출한 스타일 키워드만 임베딩으로 변환
 		float[] queryVector = createQueryEmbedding(intent.getVectorKeyword());
 
-		// exact filter와 vector search를 결합해 추천 후보를 조회
-		List<MatchRecommendationCandidate> candidates = matchPostRepository.findRecommendedMatches(
-						myTeamId,
-						toVectorLiteral(queryVector),
-						intent.getRegion(),
-						intent.getLevelIn().stream().toList(),
-						intent.getWinRateMin(),
-						intent.getWinRateMax(),
-						LocalDateTime.now()
-				).stream()
+		// 1단계 ANN 후보 팀에 정형 필터를 적용해 추천 후보를 조회
+		List<Integer> levels = intent.getLevelIn().stream().toList();
+		LocalDateTime now = LocalDateTime.now();
+		List<MatchRecommendationProjection> rows = matchPostRepository.findRecommendedMatchesByAnn(
+				myTeamId,
+				queryVector,
+				intent.getRegion(),
+				levels,
+				intent.getWinRateMin(),
+				intent.getWinRateMax(),
+				now,
+				annCandidateLimit,
+				hnswEfSearch
+		);
+
+		// 필터가 좁아 후보 팀 안에서 결과가 부족하면 정확 검색(exact filter + 전체 거리 정렬)으로 보완
+		if (rows.size() < RECOMMENDATION_LIMIT) {
+			rows = matchPostRepository.findRecommendedMatches(
+					myTeamId,
+					queryVector,
+					intent.getRegion(),
+					levels,
+					intent.getWinRateMin(),
+					intent.getWinRateMax(),
+					now
+			);
+		}
+
+		List<MatchRecommendationCandidate> candidates = rows.stream()
 				.map(this::toCandidate)
 				.toList();
 
@@ -115,21 +176,9 @@ public class MatchRecommendationService {
 		);
 	}
 
-	private String toVectorLiteral(float[] vector) {
-		StringBuilder builder = new StringBuilder("[");
-		for (int i = 0; i < vector.length; i++) {
-			if (i > 0) {
-				builder.append(',');
-			}
-			builder.append(vector[i]);
-		}
-		builder.append(']');
-		return builder.toString();
-	}
-
 	private float[] createQueryEmbedding(String keyword) {
 		try {
-			float[] vector = embeddingModel.embed(keyword);
+			float[] vector = embeddingCache.embed(keyword);
 			log.info("AI 키워드: {}, vector dimension: {}", keyword, vector.length);
 
 			return vector;
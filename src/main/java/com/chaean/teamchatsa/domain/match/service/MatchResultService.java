@@ -5,6 +5,7 @@ import com.chaean.teamchatsa.domain.match.model.MatchResult;
 import com.chaean.teamchatsa.domain.match.repository.MatchResultRepository;
 import com.chaean.teamchatsa.domain.team.model.Team;
 import com.chaean.teamchatsa.domain.team.repository.TeamRepository;
+import com.chaean.teamchatsa.global.common.util.CacheKeyGenerator;
 import com.chaean.teamchatsa.global.exception.BusinessException;
 import com.chaean.teamchatsa.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ public class MatchResultService {
 
 	private final MatchResultRepository matchResultRepository;
 	private final TeamRepository teamRepository;
+	private final CacheKeyGenerator cacheKeyGen;
 
 	@Transactional
 	public void registerMatchResult(MatchResultCreateRequest req) {
@@ -60,6 +62,8 @@ public class MatchResultService {
 		if (totalMatches > 0) {
 			double winRate = (double) wonMatches / totalMatches;
 			team.updateWinRate(winRate);
+			// 승률은 추천 검색 조건 해석에 사용되므로 해당 팀의 추천 결과 캐시 무효화 (커밋 후 반영)
+			cacheKeyGen.increaseMatchRecommendationTeamGeneration(teamId);
 		}
 	}
 }
@@ -18,13 +18,13 @@ import com.chaean.teamchatsa.domain.match.repository.MatchApplicationRepository;
 import com.chaean.teamchatsa.domain.match.repository.MatchPostRepository;
 import com.chaean.teamchatsa.domain.match.repository.projection.MatchLocationProjection;
 import com.chaean.teamchatsa.domain.team.model.Team;
-import com.chaean.teamchatsa.domain.team.repository.TeamMemberRepository;
 import com.chaean.teamchatsa.domain.team.repository.TeamRepository;
+import com.chaean.teamchatsa.domain.team.service.TeamMembershipResolver;
 import com.chaean.teamchatsa.global.common.aop.annotation.DistributedLock;
 import com.chaean.teamchatsa.global.common.aop.annotation.Loggable;
 import com.chaean.teamchatsa.global.common.dto.SliceResponse;
 import com.chaean.teamchatsa.global.common.util.CacheKeyGenerator;
-import com.chaean.teamchatsa.global.common.util.RedisCacheUtil;
+import com.chaean.teamchatsa.global.common.util.TieredCacheUtil;
 import com.chaean.teamchatsa.global.exception.BusinessException;
 import com.chaean.teamchatsa.global.exception.ErrorCode;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -54,10 +54,10 @@ public class MatchService {
 	private static final double FOCUSED_BBOX_SCALE = 0.4;
 	private final MatchPostRepository matchPostRepo;
 	private final MatchApplicationRepository matchApplicationRepo;
-	private final TeamMemberRepository teamMemberRepo;
+	private final TeamMembershipResolver membershipResolver;
 	private final TeamRepository teamRepo;
 	private final ApplicationEventPublisher eventPublisher;
-	private final RedisCacheUtil cacheUtil;
+	private final TieredCacheUtil cacheUtil;
 	private final CacheKeyGenerator cacheKeyGen;
 
 	/**
@@ -70,7 +70,7 @@ public class MatchService {
 			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "매치 날짜는 현재 시각 이후여야 합니다.");
 		}
 
-		Long teamId = teamMemberRepo.findTeamIdByUserId(userId);
+		Long teamId = membershipResolver.findTeamId(userId);
 		if (teamId == null) {
 			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "사용자가 속한 팀이 없습니다.");
 		}
@@ -89,7 +89,7 @@ public class MatchService {
 		matchPostRepo.save(matchPost);
 
 		// 매치 목록 캐시 무효화
-		deleteMatchPostsCache();
+		deleteMatchPostsCache(matchPost);
 	}
 
 	/**
@@ -101,7 +101,7 @@ public class MatchService {
 		MatchPost matchPost = matchPostRepo.findById(matchId)
 				.orElseThrow(() -> new BusinessException(ErrorCode.MATCH_POST_NOT_FOUND));
 
-		Long teamId = teamMemberRepo.findTeamIdByUserId(userId);
+		Long teamId = membershipResolver.findTeamId(userId);
 		if (teamId == null || !matchPost.getTeamId().equals(teamId)) {
 			throw new BusinessException(ErrorCode.FORBIDDEN, "매치 게시물을 삭제할 권한이 없습니다.");
 		}
@@ -113,16 +113,22 @@ public class MatchService {
 
 		matchPostRepo.delete(matchPost);
 
-		// 매치 목록 캐시 무효화
-		deleteMatchPostsCache();
+		// 매치 목록/추천 결과 캐시 무효화
+		deleteMatchPostsCache(matchPost);
+		cacheKeyGen.increaseMatchRecommendationGeneration();
 	}
 
 	/**
 	 * 매치 게시물 목록 조회
+	 * 캐시 적중 시 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행 (미스 시 조회 쿼리만 단건 실행)
 	 */
-	@Transactional(readOnly = true)
 	@Loggable
 	public SliceResponse<MatchPostListResponse> findMatchPosts(MatchPostSearchRequest req) {
+		// 커서 기반 페이징 (페이지 깊이와 무관하게 동일 비용이므로 캐싱 제외)
+		if (req.isCursorMode()) {
+			return matchPostRepo.findMatchPostsWithCursor(req);
+		}
+
 		// 캐싱 대상 확인
 		if (!cacheKeyGen.isCacheable(req)) {
 			return SliceResponse.from(fetchMatchPostsDatabase(req));
@@ -131,7 +137,7 @@ public class MatchService {
 		// 캐시 키 생성
 		String cacheKey = cacheKeyGen.generateMatchListKey(req);
 
-		// 캐시 조회
+		// 캐시 조회 (로컬 L1 → Redis L2)
 		SliceResponse<MatchPostListResponse> cached = cacheUtil.get(
 				cacheKey,
 				new TypeReference<SliceResponse<MatchPostListResponse>>() {
@@ -159,9 +165,9 @@ public class MatchService {
 		return matchPostRepo.findMatchPostsWithPagination(req, pageable);
 	}
 
-	private void deleteMatchPostsCache() {
-		String pattern = cacheKeyGen.getMatchListInvalidationPattern();
-		cacheUtil.deleteByPattern(pattern);
+	/** 게시물이 노출될 수 있는 매치 목록 캐시만 무효화 (세대 증가 → 모든 노드의 L1/L2 키가 새 세대로 전환) */
+	private void deleteMatchPostsCache(MatchPost matchPost) {
+		cacheKeyGen.increaseMatchListGeneration(matchPost.getRegion(), matchPost.getHeadCount());
 	}
 
 	/**
@@ -206,7 +212,7 @@ public class MatchService {
 			throw new BusinessException(ErrorCode.INVALID_STATE, "마감된 매치입니다.");
 		}
 
-		Long teamId = teamMemberRepo.findTeamIdByUserId(userId);
+		Long teamId = membershipResolver.findTeamId(userId);
 		if (teamId == null) {
 			throw new BusinessException(ErrorCode.TEAM_NOT_FOUND, "사용자가 속한 팀이 없습니다.");
 		}
@@ -255,7 +261,7 @@ public class MatchService {
 			throw new BusinessException(ErrorCode.MATCH_POST_NOT_FOUND);
 		}
 
-		Long teamId = teamMemberRepo.findTeamIdByUserId(userId);
+		Long teamId = membershipResolver.findTeamId(userId);
 		if (teamId == null) {
 			throw new BusinessException(ErrorCode.TEAM_NOT_FOUND, "사용자가 속한 팀이 없습니다.");
 		}
@@ -289,7 +295,7 @@ public class MatchService {
 			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 마감된 게시물입니다.");
 		}
 
-		Long teamId = teamMemberRepo.findTeamIdByUserId(userId);
+		Long teamId = membershipResolver.findTeamId(userId);
 		if (!matchPost.getTeamId().equals(teamId)) {
 			throw new BusinessException(ErrorCode.FORBIDDEN, "해당 매치의 팀 멤버가 아닙니다.");
 		}
@@ -328,8 +334,9 @@ public class MatchService {
 		log.info("매치 신청 승인 이벤트 발행: matchId={}, applicantTeamId={}, status=ACCEPTED",
 				matchId, matchApplication.getApplicantTeamId());
 
-		// 매치 목록 캐시 무효화 (상태가 CLOSED로 변경됨)
-		deleteMatchPostsCache();
+		// 매치 목록/추천 결과 캐시 무효화 (상태가 CLOSED로 변경됨)
+		deleteMatchPostsCache(matchPost);
+		cacheKeyGen.increaseMatchRecommendationGeneration();
 
 		return team.getName();
 	}
@@ -343,7 +350,7 @@ public class MatchService {
 		MatchPost matchPost = matchPostRepo.findById(matchId)
 				.orElseThrow(() -> new BusinessException(ErrorCode.MATCH_POST_NOT_FOUND));
 
-		Long teamId = teamMemberRepo.findTeamIdByUserId(userId);
+		Long teamId = membershipResolver.findTeamId(userId);
 		if (!matchPost.getTeamId().equals(teamId)) {
 			throw new BusinessException(ErrorCode.FORBIDDEN, "권한이 없습니다.");
 		}
@@ -376,7 +383,7 @@ public class MatchService {
 		MatchPost matchPost = matchPostRepo.findById(matchId)
 				.orElseThrow(() -> new BusinessException(ErrorCode.MATCH_POST_NOT_FOUND));
 
-		Long teamId = teamMemberRepo.findTeamIdByUserId(userId);
+		Long teamId = membershipResolver.findTeamId(userId);
 		if (teamId == null || !matchPost.getTeamId().equals(teamId)) {
 			throw new BusinessException(ErrorCode.FORBIDDEN, "매치 신청 목록을 조회할 권한이 없습니다.");
 		}
@@ -2,18 +2,25 @@ package com.chaean.teamchatsa.domain.notification.controller;
 
 import com.chaean.teamchatsa.domain.notification.dto.response.NotificationResponse;
 import com.chaean.teamchatsa.domain.notification.service.NotificationService;
+import com.chaean.teamchatsa.domain.notification.service.NotificationSseService;
 import com.chaean.teamchatsa.global.common.dto.ApiResponse;
+import com.chaean.teamchatsa.global.common.dto.SliceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/v1/notifications")
@@ -22,6 +29,21 @@ import org.springframework.web.bind.annotation.RestController;
 public class NotificationController {
 
 	private final NotificationService notificationService;
+	private final NotificationSseService notificationSseService;
+
+	/**
+	 * 알림 실시간 구독 (SSE)
+	 */
+	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "알림 구독", description = "새 알림(notification)과 읽지 않은 개수 변화(unread-count)를 실시간으로 수신합니다. 재연결 시 Last-Event-ID 이후 알림을 재전송합니다.")
+	public SseEmitter subscribe(
+			@AuthenticationPrincipal Long userId,
+			@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+			HttpServletResponse response) {
+		// 리버스 프록시(nginx) 버퍼링 비활성화
+		response.setHeader("X-Accel-Buffering", "no");
+		return notificationSseService.subscribe(userId, lastEventId);
+	}
 
 	/**
 	 * 읽지 않은 알림 목록 조회
@@ -35,13 +57,15 @@ public class NotificationController {
 	}
 
 	/**
-	 * 모든 알림 목록 조회
+	 * 알림 이력 조회 (커서 기반 페이징)
 	 */
 	@GetMapping("/all")
-	@Operation(summary = "모든 알림 조회", description = "읽음 포함 전체 알림 목록")
-	public ResponseEntity<ApiResponse<List<NotificationResponse>>> getAllNotifications(
-			@AuthenticationPrincipal Long userId) {
-		List<NotificationResponse> notifications = notificationService.getAllNotifications(userId);
+	@Operation(summary = "알림 이력 조회", description = "읽음 포함 알림 이력을 최신순으로 조회합니다. 응답의 nextCursor를 cursor로 전달하면 다음 페이지를 조회합니다. (size 최대 100)")
+	public ResponseEntity<ApiResponse<SliceResponse<NotificationResponse>>> getAllNotifications(
+			@AuthenticationPrincipal Long userId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size) {
+		SliceResponse<NotificationResponse> notifications = notificationService.getAllNotifications(userId, cursor, size);
 		return ResponseEntity.ok(ApiResponse.success(notifications));
 	}
 
@@ -72,10 +96,11 @@ public class NotificationController {
 	 * 모든 알림 읽음 처리
 	 */
 	@PatchMapping("/read-all")
-	@Operation(summary = "모든 알림 읽음 처리", description = "현재 사용자의 모든 알림을 읽음 상태로 변경")
-	public ResponseEntity<ApiResponse<Void>> markAllAsRead(
-			@AuthenticationPrincipal Long userId) {
-		notificationService.markAllAsRead(userId);
-		return ResponseEntity.ok(ApiResponse.success("모든 알림을 읽음 처리했습니다.", null));
+	@Operation(summary = "모든 알림 읽음 처리", description = "현재 사용자의 모든 알림을 읽음 상태로 변경합니다. upToId를 보내면 해당 ID 이하 알림까지만 읽음 처리하고, 처리된 개수를 반환합니다.")
+	public ResponseEntity<ApiResponse<Integer>> markAllAsRead(
+			@AuthenticationPrincipal Long userId,
+			@RequestParam(required = false) Long upToId) {
+		int updated = notificationService.markAllAsRead(userId, upToId);
+		return ResponseEntity.ok(ApiResponse.success("모든 알림을 읽음 처리했습니다.", updated));
 	}
 }
@@ -0,0 +1,40 @@
+package com.chaean.teamchatsa.domain.notification.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 Redis Pub/Sub으로 전달되는 알림 푸시 메시지
+ * - NOTIFICATION: 새 알림 (읽지 않은 개수 +1)
+ * - UNREAD_COUNT: 읽음 처리로 인한 읽지 않은 개수 변화량(delta) 또는 재설정 값(count)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class NotificationPushMessage {
+
+	public static final String NOTIFICATION = "notification";
+	public static final String UNREAD_COUNT = "unread-count";
+
+	private Long recipientId;
+	private String event;
+	private NotificationResponse notification;
+	private Long delta;
+	private Long count;
+
+	public static NotificationPushMessage created(NotificationResponse notification, Long recipientId) {
+		return new NotificationPushMessage(recipientId, NOTIFICATION, notification, 1L, null);
+	}
+
+	public static NotificationPushMessage unreadDelta(Long recipientId, long delta) {
+		return new NotificationPushMessage(recipientId, UNREAD_COUNT, null, delta, null);
+	}
+
+	public static NotificationPushMessage unreadReset(Long recipientId) {
+		return new NotificationPushMessage(recipientId, UNREAD_COUNT, null, null, 0L);
+	}
+}
@@ -0,0 +1,16 @@
+package com.chaean.teamchatsa.domain.notification.event;
+
+import com.chaean.teamchatsa.domain.notification.dto.response.NotificationPushMessage;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 알림 저장/읽음 처리 이후 구독 중인 클라이언트에게 푸시할 메시지 묶음
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationPushEvent {
+
+	private final List<NotificationPushMessage> messages;
+}
@@ -0,0 +1,41 @@
+package com.chaean.teamchatsa.domain.notification.listener;
+
+import com.chaean.teamchatsa.domain.notification.dto.response.NotificationPushMessage;
+import com.chaean.teamchatsa.domain.notification.event.NotificationPushEvent;
+import com.chaean.teamchatsa.domain.notification.service.NotificationSseService;
+import com.chaean.teamchatsa.domain.notification.service.NotificationUnreadCounter;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림 푸시 리스너
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPushListener {
+
+	private final NotificationSseService notificationSseService;
+	private final NotificationUnreadCounter unreadCounter;
+
+	/**
+	 * 커밋된 변경만 읽지 않은 개수 카운터에 반영하고, Redis Pub/Sub으로 전파 (모든 노드가 자신에게 연결된 구독자에게 전송)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleNotificationPush(NotificationPushEvent event) {
+		Map<Long, Long> deltas = new HashMap<>();
+		for (NotificationPushMessage message : event.getMessages()) {
+			if (message.getCount() != null) {
+				unreadCounter.set(message.getRecipientId(), message.getCount());
+			} else if (message.getDelta() != null) {
+				deltas.merge(message.getRecipientId(), message.getDelta(), Long::sum);
+			}
+		}
+		unreadCounter.increase(deltas);
+
+		notificationSseService.publish(event.getMessages());
+	}
+}
@@ -1,11 +1,16 @@
 package com.chaean.teamchatsa.domain.notification.repository;
 
 import com.chaean.teamchatsa.domain.notification.model.Notification;
+import com.chaean.teamchatsa.domain.notification.repository.projection.UnreadCountProjection;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
 
 	/**
 	 * 특정 사용자의 읽지 않은 알림 조회 (최신순)
@@ -13,9 +18,27 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 	List<Notification> findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(Long recipientId);
 
 	/**
-	 * 특정 사용자의 모든 알림 조회 (최신순)
+	 * 특정 사용자의 알림 이력 첫 페이지 조회 (최신순)
 	 */
-	List<Notification> findByRecipientIdOrderByCreatedAtDesc(Long recipientId);
+	List<Notification> findByRecipientIdOrderByCreatedAtDescIdDesc(Long recipientId, Pageable pageable);
+
+	/**
+	 * 특정 사용자의 알림 이력 커서 이후 페이지 조회 (최신순)
+	 */
+	@Query("""
+			SELECT n
+			  FROM Notification n
+			 WHERE n.recipientId = :recipientId
+			   AND n.createdAt <= :cursorCreatedAt
+			   AND (n.createdAt < :cursorCreatedAt OR n.id < :cursorId)
+			 ORDER BY n.createdAt DESC, n.id DESC
+			""")
+	List<Notification> findHistoryAfterCursor(
+			Long recipientId,
+			LocalDateTime cursorCreatedAt,
+			Long cursorId,
+			Pageable pageable
+	);
 
 	/**
 	 * 특정 알림 조회 (권한 검증용)
@@ -26,4 +49,73 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 	 * 읽지 않은 알림 개수 조회
 	 */
 	Long countByRecipientIdAndIsReadFalse(Long recipientId);
+
+	/**
+	 * 읽지 않은 알림 일괄 읽음 처리 (upToId 이하 알림까지)
+	 * 엔티티 로딩 없이 단일 UPDATE로 처리하고, 변경된 행 수를 반환
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("""
+			UPDATE Notification n
+			   SET n.isRead = true,
+			       n.updatedAt = :now
+			 WHERE n.recipientId = :recipientId
+			   AND n.isRead = false
+			   AND n.id <= :upToId
+			   AND n.deletedAt IS NULL
+			""")
+	int markAsReadUpTo(Long recipientId, Long upToId, LocalDateTime now);
+
+	/**
+	 * 보관 기간이 지난 읽은 알림을 아카이브 테이블로 이동 (배치 단위, 읽지 않은 알림은 삭제 여부와 관계없이 유지)
+	 * 삭제와 적재를 하나의 문장으로 처리하고, 이동된 행 수를 반환
+	 */
+	@Modifying
+	@Query(value = """
+			WITH moved AS (
+			    DELETE FROM app.notification
+			     WHERE id IN (
+			         SELECT id
+			           FROM app.notification
+			          WHERE is_read = true
+			            AND created_at < :cutoff
+			          ORDER BY created_at
+			          LIMIT :batchSize
+			          FOR UPDATE SKIP LOCKED
+			     )
+			    RETURNING id, recipient_id, type, title, content, link, is_read, created_at, updated_at, deleted_at
+			)
+			INSERT INTO app.notification_archive
+			    (id, recipient_id, type, title, content, link, is_read, created_at, updated_at, deleted_at, archived_at)
+			SELECT id, recipient_id, type, title, content, link, is_read, created_at, updated_at, deleted_at, NOW()
+			  FROM moved
+			""", nativeQuery = true)
+	int archiveReadBefore(LocalDateTime cutoff, int batchSize);
+
+	/**
+	 * SSE 재연결 시 재전송 대상 조회 (ID 오름차순)
+	 * IDENTITY ID는 커밋 순서와 다를 수 있으므로, Last-Event-ID 이후 알림에 더해
+	 * overlapFrom 이후 생성된 알림도 함께 조회 (먼저 받은 알림보다 늦게 커밋된 낮은 ID 보완, 중복은 클라이언트가 ID로 제거)
+	 */
+	@Query("""
+			SELECT n
+			  FROM Notification n
+			 WHERE n.recipientId = :recipientId
+			   AND (n.id > :lastEventId OR n.createdAt >= :overlapFrom)
+			 ORDER BY n.id ASC
+			""")
+	List<Notification> findReplayTargets(Long recipientId, Long lastEventId, LocalDateTime overlapFrom, Pageable pageable);
+
+	/**
+	 * 사용자별 읽지 않은 알림 개수 일괄 조회 (Redis 카운터 보정용, 0건인 사용자는 결과에 없음)
+	 */
+	@Query("""
+			SELECT n.recipientId AS recipientId,
+			       COUNT(n) AS unreadCount
+			  FROM Notification n
+			 WHERE n.recipientId IN :recipientIds
+			   AND n.isRead = false
+			 GROUP BY n.recipientId
+			""")
+	List<UnreadCountProjection> countUnreadGroupByRecipientId(List<Long> recipientIds);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.chaean.teamchatsa.domain.notification.repository;
+
+import com.chaean.teamchatsa.domain.notification.model.Notification;
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+
+	/**
+	 * 알림 일괄 저장 (multi-row INSERT, 생성된 ID 목록 반환)
+	 */
+	List<Long> insertAll(List<Notification> notifications);
+}
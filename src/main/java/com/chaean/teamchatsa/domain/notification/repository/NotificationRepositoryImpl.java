@@ -0,0 +1,69 @@
+package com.chaean.teamchatsa.domain.notification.repository;
+
+import com.chaean.teamchatsa.domain.notification.model.Notification;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Notification JDBC 구현체
+ * IDENTITY 전략은 Hibernate JDBC 배치가 비활성화되어 saveAll이 수신자 수만큼 INSERT를 실행하므로,
+ * 팬아웃 저장은 multi-row INSERT ... RETURNING id 한 문장으로 처리 (ID는 기존과 같이 DB 시퀀스에서 단조 증가)
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+	// 한 문장당 행 수 (행당 바인딩 8개, PostgreSQL 바인딩 파라미터 한도 32767 이내)
+	private static final int ROWS_PER_STATEMENT = 500;
+	private static final String INSERT_PREFIX = """
+			INSERT INTO app.notification
+			    (recipient_id, type, title, content, link, is_read, created_at, updated_at)
+			VALUES
+			""";
+	private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public List<Long> insertAll(List<Notification> notifications) {
+		if (notifications.isEmpty()) {
+			return List.of();
+		}
+
+		// JPA Auditing과 동일하게 애플리케이션 시각으로 생성/수정 시각 기록
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Long> ids = new ArrayList<>(notifications.size());
+
+		for (int from = 0; from < notifications.size(); from += ROWS_PER_STATEMENT) {
+			List<Notification> chunk = notifications.subList(from, Math.min(from + ROWS_PER_STATEMENT, notifications.size()));
+			ids.addAll(insertChunk(chunk, now));
+		}
+		return ids;
+	}
+
+	private List<Long> insertChunk(List<Notification> chunk, Timestamp now) {
+		String sql = INSERT_PREFIX
+				+ String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER))
+				+ " RETURNING id";
+
+		List<Object> params = new ArrayList<>(chunk.size() * 8);
+		for (Notification notification : chunk) {
+			params.add(notification.getRecipientId());
+			params.add(notification.getType().name());
+			params.add(notification.getTitle());
+			params.add(notification.getContent());
+			params.add(notification.getLink());
+			params.add(notification.getIsRead());
+			params.add(now);
+			params.add(now);
+		}
+
+		return jdbcTemplate.queryForList(sql, Long.class, params.toArray());
+	}
+}
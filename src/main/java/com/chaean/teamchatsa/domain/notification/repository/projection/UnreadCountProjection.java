@@ -0,0 +1,11 @@
+package com.chaean.teamchatsa.domain.notification.repository.projection;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 프로젝션
+ */
+public interface UnreadCountProjection {
+
+	Long getRecipientId();
+
+	Long getUnreadCount();
+}
@@ -0,0 +1,32 @@
+package com.chaean.teamchatsa.domain.notification.scheduler;
+
+import com.chaean.teamchatsa.domain.notification.service.NotificationCoalescer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 병합 구간이 끝난 알림 버퍼 처리 스케줄러
+ * 버퍼는 원자적으로 한 노드만 임대하므로 여러 노드가 같은 버퍼를 동시에 처리하지 않음
+ * 전달은 at-least-once: 저장 후 버퍼 정리 전에 노드가 중단되거나 임대가 만료되면 같은 버퍼가 다시 저장될 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationCoalesceScheduler {
+
+	private final NotificationCoalescer coalescer;
+
+	@Scheduled(fixedDelayString = "${app.notification.coalesce-flush-interval-millis:1000}")
+	public void flushCoalescedNotifications() {
+		try {
+			int created = coalescer.flushDue();
+			if (created > 0) {
+				log.info("병합 알림 저장: count={}", created);
+			}
+		} catch (Exception e) {
+			log.error("병합 알림 처리 실패", e);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.chaean.teamchatsa.domain.notification.scheduler;
+
+import com.chaean.teamchatsa.domain.notification.service.NotificationService;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽은 알림 보관(아카이브) 스케줄러
+ * 보관 기간이 지난 읽은 알림을 배치 단위로 아카이브 테이블로 옮겨 알림 테이블 크기를 유지
+ * 배치마다 트랜잭션을 분리하고 FOR UPDATE SKIP LOCKED로 대상을 잡으므로 여러 노드에서 동시에 실행되어도 안전
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionScheduler {
+
+	private final NotificationService notificationService;
+
+	@Value("${app.notification.retention-days:30}")
+	private int retentionDays;
+
+	@Value("${app.notification.archive-batch-size:1000}")
+	private int batchSize;
+
+	// 한 번 실행에서 처리할 최대 배치 수 (남은 대상은 다음 실행에서 처리)
+	@Value("${app.notification.archive-max-batches:100}")
+	private int maxBatches;
+
+	@Scheduled(cron = "${app.notification.archive-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+	public void archiveReadNotifications() {
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+		int total = 0;
+
+		try {
+			for (int batch = 0; batch < maxBatches; batch++) {
+				int moved = notificationService.archiveReadNotifications(cutoff, batchSize);
+				total += moved;
+				if (moved < batchSize) {
+					break;
+				}
+			}
+		} catch (Exception e) {
+			log.error("알림 아카이브 실패: cutoff={}, archived={}", cutoff, total, e);
+			return;
+		}
+
+		log.info("알림 아카이브 완료: cutoff={}, archived={}", cutoff, total);
+	}
+}
@@ -0,0 +1,34 @@
+package com.chaean.teamchatsa.domain.notification.scheduler;
+
+import com.chaean.teamchatsa.domain.notification.service.NotificationUnreadCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽지 않은 알림 Redis 카운터 정합성 보정 스케줄러
+ * 값이 바뀌지 않은 카운터만 compare-and-set으로 보정하므로 여러 노드에서 동시에 실행되어도 안전
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCountScheduler {
+
+	private final NotificationUnreadCounter unreadCounter;
+
+	@Scheduled(
+			fixedDelayString = "${app.notification.unread-reconcile-interval-millis:600000}",
+			initialDelayString = "${app.notification.unread-reconcile-interval-millis:600000}"
+	)
+	public void reconcileUnreadCounts() {
+		try {
+			int fixed = unreadCounter.reconcile();
+			if (fixed > 0) {
+				log.warn("읽지 않은 알림 카운터 불일치 보정: fixedUsers={}", fixed);
+			}
+		} catch (Exception e) {
+			log.error("읽지 않은 알림 카운터 보정 실패", e);
+		}
+	}
+}
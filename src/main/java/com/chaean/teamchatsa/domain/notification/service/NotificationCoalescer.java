@@ -0,0 +1,224 @@
+package com.chaean.teamchatsa.domain.notification.service;
+
+import com.chaean.teamchatsa.domain.notification.model.NotificationType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 병합(coalescing) 버퍼
+ * 같은 (수신자, 타입, 링크) 알림을 짧은 구간 동안 Redis에 모아 두었다가 하나의 알림으로 저장/푸시
+ * 구간은 첫 이벤트 시점부터 시작하며, 버퍼가 Redis에 있으므로 어느 노드에서든 만료된 버퍼를 처리할 수 있음
+ */
+@Component
+@Slf4j
+public class NotificationCoalescer {
+
+	private static final String BUFFER_KEY_PREFIX = "notification:coalesce:buf:";
+	private static final String DUE_KEY = "notification:coalesce:due";
+	private static final int FLUSH_BATCH_SIZE = 100;
+	// 저장이 이 시간 안에 끝나지 않으면(노드 중단 등) 다른 노드가 버퍼를 다시 가져감
+	private static final long CLAIM_LEASE_MILLIS = 30_000L;
+
+	// 항목 추가 + 최초 이벤트일 때만 만료 시각 등록 (이후 이벤트가 구간을 연장하지 않음)
+	private static final byte[] OFFER_SCRIPT = """
+			redis.call('RPUSH', KEYS[1], ARGV[1])
+			redis.call('ZADD', KEYS[2], 'NX', ARGV[2], KEYS[1])
+			return 1
+			""".getBytes(StandardCharsets.UTF_8);
+
+	// 구간이 끝난 버퍼를 임대(lease): 만료 시각을 임대 종료 시각으로 미뤄 다른 노드가 가져가지 않도록 하고, 항목은 지우지 않음
+	// 저장 실패나 노드 중단 시 임대가 끝나면 다시 처리됨 (at-least-once)
+	private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+			local dueAt = redis.call('ZSCORE', KEYS[1], KEYS[2])
+			if not dueAt or tonumber(dueAt) > tonumber(ARGV[1]) then
+			    return {}
+			end
+			local items = redis.call('LRANGE', KEYS[2], 0, -1)
+			if #items == 0 then
+			    redis.call('ZREM', KEYS[1], KEYS[2])
+			    return {}
+			end
+			redis.call('ZADD', KEYS[1], 'XX', ARGV[2], KEYS[2])
+			return items
+			""", List.class);
+
+	// 저장이 끝난 항목만 제거, 처리 중 추가된 항목이 남아 있으면 다음 구간에 처리
+	private static final RedisScript<Long> ACK_SCRIPT = new DefaultRedisScript<>("""
+			redis.call('LTRIM', KEYS[2], ARGV[1], -1)
+			if redis.call('LLEN', KEYS[2]) == 0 then
+			    redis.call('ZREM', KEYS[1], KEYS[2])
+			else
+			    redis.call('ZADD', KEYS[1], 'XX', ARGV[2], KEYS[2])
+			end
+			return 1
+			""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final NotificationService notificationService;
+	private final long windowMillis;
+
+	public NotificationCoalescer(
+			RedisTemplate<String, String> redisTemplate,
+			NotificationService notificationService,
+			@Value("${app.notification.coalesce-window-millis:3000}") long windowMillis
+	) {
+		this.redisTemplate = redisTemplate;
+		this.notificationService = notificationService;
+		this.windowMillis = windowMillis;
+	}
+
+	/**
+	 * 수신자별 버퍼에 항목 추가
+	 * Redis 장애로 버퍼링하지 못하면 false를 반환하며, 호출자는 즉시 저장으로 대체
+	 */
+	public boolean offer(List<Long> recipientIds, NotificationType type, String link, String item) {
+		long dueAt = System.currentTimeMillis() + windowMillis;
+
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (Long recipientId : recipientIds) {
+					connection.scriptingCommands().eval(
+							OFFER_SCRIPT,
+							ReturnType.INTEGER,
+							2,
+							bytes(bufferKey(recipientId, type, link)),
+							bytes(DUE_KEY),
+							bytes(item),
+							bytes(String.valueOf(dueAt))
+					);
+				}
+				return null;
+			});
+			return true;
+		} catch (Exception e) {
+			log.error("알림 병합 버퍼 추가 실패: type={}, link={}, recipientIds={}", type, link, recipientIds, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 구간이 끝난 버퍼를 가져와 병합된 알림으로 저장하고, 저장한 알림 수를 반환
+	 * 같은 문구를 받는 수신자는 한 번의 일괄 저장으로 처리하며, 버퍼 항목은 저장이 커밋된 뒤에만 제거
+	 */
+	public int flushDue() {
+		long now = System.currentTimeMillis();
+		Set<String> dueKeys = redisTemplate.opsForZSet()
+				.rangeByScore(DUE_KEY, 0, now, 0, FLUSH_BATCH_SIZE);
+		if (dueKeys == null || dueKeys.isEmpty()) {
+			return 0;
+		}
+
+		String leaseUntil = String.valueOf(now + CLAIM_LEASE_MILLIS);
+		Map<CoalescedNotification, List<ClaimedBuffer>> buffersByNotification = new LinkedHashMap<>();
+		for (String bufferKey : dueKeys) {
+			@SuppressWarnings("unchecked")
+			List<String> items = redisTemplate.execute(
+					CLAIM_SCRIPT, List.of(DUE_KEY, bufferKey), String.valueOf(now), leaseUntil);
+			if (items == null || items.isEmpty()) {
+				continue;
+			}
+
+			// 키 형식: {prefix}{recipientId}:{type}:{link}
+			String[] parts = bufferKey.substring(BUFFER_KEY_PREFIX.length()).split(":", 3);
+			Long recipientId = Long.parseLong(parts[0]);
+			NotificationType type = NotificationType.valueOf(parts[1]);
+			String link = parts[2];
+
+			CoalescedNotification notification = new CoalescedNotification(type, link, aggregateContent(type, items));
+			buffersByNotification.computeIfAbsent(notification, key -> new ArrayList<>())
+					.add(new ClaimedBuffer(bufferKey, recipientId, items.size()));
+		}
+
+		int created = 0;
+		for (Map.Entry<CoalescedNotification, List<ClaimedBuffer>> entry : buffersByNotification.entrySet()) {
+			CoalescedNotification notification = entry.getKey();
+			List<Long> recipientIds = entry.getValue().stream()
+					.map(ClaimedBuffer::getRecipientId)
+					.toList();
+			try {
+				created += notificationService.createNotifications(
+						recipientIds,
+						notification.getType(),
+						notification.getContent(),
+						notification.getLink()
+				).size();
+			} catch (Exception e) {
+				// 버퍼는 그대로 두고 임대가 끝난 뒤 다시 처리
+				log.error("병합 알림 저장 실패, 임대 만료 후 재시도: type={}, link={}, recipientIds={}, content={}",
+						notification.getType(), notification.getLink(), recipientIds, notification.getContent(), e);
+				continue;
+			}
+			acknowledge(entry.getValue());
+		}
+		return created;
+	}
+
+	// 저장된 항목 제거 (실패 시 임대 만료 후 다시 처리되어 중복 저장될 수 있음)
+	private void acknowledge(List<ClaimedBuffer> buffers) {
+		String nextDueAt = String.valueOf(System.currentTimeMillis() + windowMillis);
+		for (ClaimedBuffer buffer : buffers) {
+			try {
+				redisTemplate.execute(
+						ACK_SCRIPT, List.of(DUE_KEY, buffer.getBufferKey()), String.valueOf(buffer.getItemCount()), nextDueAt);
+			} catch (Exception e) {
+				log.error("병합 알림 버퍼 정리 실패: bufferKey={}", buffer.getBufferKey(), e);
+			}
+		}
+	}
+
+	/**
+	 * 병합 문구 생성 (같은 항목은 한 번만 집계)
+	 */
+	String aggregateContent(NotificationType type, List<String> items) {
+		Set<String> distinctItems = new LinkedHashSet<>(items);
+		String first = distinctItems.iterator().next();
+
+		if (type == NotificationType.MATCH_APPLICATION) {
+			return distinctItems.size() == 1
+					? first + " 팀이 매치를 신청했습니다."
+					: distinctItems.size() + "개 팀이 매치를 신청했습니다.";
+		}
+		throw new IllegalArgumentException("병합을 지원하지 않는 알림 타입입니다: " + type);
+	}
+
+	private String bufferKey(Long recipientId, NotificationType type, String link) {
+		return BUFFER_KEY_PREFIX + recipientId + ":" + type.name() + ":" + link;
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	@Getter
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	private static class CoalescedNotification {
+		private final NotificationType type;
+		private final String link;
+		private final String content;
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	private static class ClaimedBuffer {
+		private final String bufferKey;
+		private final Long recipientId;
+		private final int itemCount;
+	}
+}
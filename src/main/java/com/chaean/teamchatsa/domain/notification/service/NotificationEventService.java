@@ -23,6 +23,7 @@ public class NotificationEventService {
 
 	private final NotificationService notificationService;
 	private final TeamMemberRepository teamMemberRepo;
+	private final NotificationCoalescer coalescer;
 
 	@Transactional
 	public void handleTeamApplicationCreated(TeamApplicationCreatedEvent event) {
@@ -103,12 +104,18 @@ public class NotificationEventService {
 			return;
 		}
 
-		// 매치 신청 알림 일괄 저장
+		// 신청이 몰리는 게시물은 짧은 구간 동안 모아 하나의 알림으로 저장 (버퍼링 실패 시 즉시 저장)
+		String link = "/matches/" + event.getMatchId();
+		if (coalescer.offer(leaderUserIds, NotificationType.MATCH_APPLICATION, link, event.getApplicantTeamName())) {
+			log.info("매치 신청 알림 병합 대기: matchId={}, count={}", event.getMatchId(), leaderUserIds.size());
+			return;
+		}
+
 		notificationService.createNotifications(
 				leaderUserIds,
 				NotificationType.MATCH_APPLICATION,
 				event.getApplicantTeamName() + " 팀이 매치를 신청했습니다.",
-				"/matches/" + event.getMatchId()
+				link
 		);
 
 		log.info("매치 신청 알림 배치 저장 완료: count={}", leaderUserIds.size());
@@ -1,26 +1,40 @@
 package com.chaean.teamchatsa.domain.notification.service;
 
+import com.chaean.teamchatsa.domain.notification.dto.response.NotificationPushMessage;
 import com.chaean.teamchatsa.domain.notification.dto.response.NotificationResponse;
+import com.chaean.teamchatsa.domain.notification.event.NotificationPushEvent;
 import com.chaean.teamchatsa.domain.notification.model.Notification;
 import com.chaean.teamchatsa.domain.notification.model.NotificationType;
 import com.chaean.teamchatsa.domain.notification.repository.NotificationRepository;
 import com.chaean.teamchatsa.global.common.aop.annotation.Loggable;
+import com.chaean.teamchatsa.global.common.dto.SliceResponse;
+import com.chaean.teamchatsa.global.common.util.CursorCodec;
 import com.chaean.teamchatsa.global.exception.BusinessException;
 import com.chaean.teamchatsa.global.exception.ErrorCode;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
+	private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
 	private final NotificationRepository notificationRepo;
+	private final ApplicationEventPublisher eventPublisher;
+	private final NotificationUnreadCounter unreadCounter;
 
 	/**
 	 * 알림 생성 및 DB 저장
@@ -35,6 +49,11 @@ public class NotificationService {
 		Notification saved = notificationRepo.save(notification);
 		log.info("알림 저장 완료: recipientId={}, type={}, id={}", recipientId, type, saved.getId());
 
+		// 커밋 이후 구독 중인 클라이언트에게 푸시
+		eventPublisher.publishEvent(new NotificationPushEvent(List.of(
+				NotificationPushMessage.created(NotificationResponse.fromEntity(saved), recipientId)
+		)));
+
 		return saved;
 	}
 
@@ -53,17 +72,50 @@ public class NotificationService {
 	}
 
 	/**
-	 * 모든 알림 목록 조회
+	 * 알림 이력 조회 (읽음 포함, (createdAt, id) 커서 기반 페이징)
 	 */
 	@Transactional(readOnly = true)
 	@Loggable
-	public List<NotificationResponse> getAllNotifications(Long userId) {
-		List<Notification> notifications = notificationRepo
-				.findByRecipientIdOrderByCreatedAtDesc(userId);
+	public SliceResponse<NotificationResponse> getAllNotifications(Long userId, String cursor, int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+		// 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+		Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+		List<Notification> notifications;
+		if (!StringUtils.hasText(cursor)) {
+			notifications = notificationRepo.findByRecipientIdOrderByCreatedAtDescIdDesc(userId, pageable);
+		} else {
+			notifications = CursorCodec.decode(cursor, 2, parts -> notificationRepo.findHistoryAfterCursor(
+					userId,
+					LocalDateTime.parse(parts[0]),
+					Long.parseLong(parts[1]),
+					pageable
+			));
+		}
 
-		return notifications.stream()
+		boolean hasNext = notifications.size() > pageSize;
+		List<Notification> page = hasNext ? notifications.subList(0, pageSize) : notifications;
+
+		String nextCursor = null;
+		if (hasNext) {
+			Notification last = page.get(page.size() - 1);
+			nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+		}
+
+		List<NotificationResponse> content = page.stream()
 				.map(NotificationResponse::fromEntity)
 				.collect(Collectors.toList());
+		return SliceResponse.of(content, !hasNext, nextCursor);
+	}
+
+	/**
+	 * 보관 기간이 지난 읽은 알림을 아카이브 테이블로 이동 (1배치 = 1트랜잭션)
+	 * 이동된 행 수를 반환하며, batchSize보다 작으면 더 이상 이동할 대상이 없음
+	 */
+	@Transactional
+	@Loggable
+	public int archiveReadNotifications(LocalDateTime cutoff, int batchSize) {
+		return notificationRepo.archiveReadBefore(cutoff, batchSize);
 	}
 
 	/**
@@ -83,27 +135,42 @@ public class NotificationService {
 
 		notification.markAsRead();
 		log.info("알림 읽음 처리: notificationId={}, userId={}", notificationId, userId);
+
+		eventPublisher.publishEvent(new NotificationPushEvent(List.of(
+				NotificationPushMessage.unreadDelta(userId, -1)
+		)));
 	}
 
 	/**
 	 * 모든 알림을 읽음 처리
+	 * upToId가 있으면 해당 ID 이하 알림까지만 읽음 처리 (화면에 표시된 지점까지 읽음)
 	 */
 	@Transactional
 	@Loggable
-	public void markAllAsRead(Long userId) {
-		List<Notification> unreadNotifications = notificationRepo
-				.findByRecipientIdAndIsReadFalseOrderByCreatedAtDesc(userId);
-
-		unreadNotifications.forEach(Notification::markAsRead);
-		log.info("모든 알림 읽음 처리: userId={}, count={}", userId, unreadNotifications.size());
+	public int markAllAsRead(Long userId, Long upToId) {
+		int updated = notificationRepo.markAsReadUpTo(
+				userId,
+				upToId != null ? upToId : Long.MAX_VALUE,
+				LocalDateTime.now()
+		);
+		log.info("모든 알림 읽음 처리: userId={}, upToId={}, count={}", userId, upToId, updated);
+
+		// 전체 읽음은 0으로 재설정, 부분 읽음은 변경된 개수만큼 차감
+		NotificationPushMessage message = upToId == null
+				? NotificationPushMessage.unreadReset(userId)
+				: NotificationPushMessage.unreadDelta(userId, -updated);
+		if (upToId == null || updated > 0) {
+			eventPublisher.publishEvent(new NotificationPushEvent(List.of(message)));
+		}
+		return updated;
 	}
 
 	/**
 	 * 읽지 않은 알림 개수 조회
+	 * Redis 카운터 적중 시 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
 	 */
-	@Transactional(readOnly = true)
 	public Long getUnreadCount(Long userId) {
-		return notificationRepo.countByRecipientIdAndIsReadFalse(userId);
+		return unreadCounter.get(userId);
 	}
 
 	/**
@@ -126,11 +193,19 @@ public class NotificationService {
 			notifications.add(notification);
 		}
 
-		// 한 번에 저장
-		List<Notification> savedNotifications = notificationRepo.saveAll(notifications);
+		// multi-row INSERT로 한 번에 저장 후, 생성된 ID로 한 번에 다시 조회 (수신자 수와 무관하게 왕복 2회)
+		List<Long> ids = notificationRepo.insertAll(notifications);
+		List<Notification> savedNotifications = notificationRepo.findAllById(ids).stream()
+				.sorted(Comparator.comparing(Notification::getId))
+				.toList();
 		log.info("배치 알림 저장 완료: type={}, count={}, recipientIds={}",
 				type, savedNotifications.size(), recipientIds);
 
+		// 커밋 이후 구독 중인 클라이언트에게 한 번의 메시지로 푸시
+		eventPublisher.publishEvent(new NotificationPushEvent(savedNotifications.stream()
+				.map(saved -> NotificationPushMessage.created(NotificationResponse.fromEntity(saved), saved.getRecipientId()))
+				.toList()));
+
 		return savedNotifications;
 	}
 }
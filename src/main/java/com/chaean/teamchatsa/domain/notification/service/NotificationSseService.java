@@ -0,0 +1,181 @@
+package com.chaean.teamchatsa.domain.notification.service;
+
+import com.chaean.teamchatsa.domain.notification.dto.response.NotificationPushMessage;
+import com.chaean.teamchatsa.domain.notification.dto.response.NotificationResponse;
+import com.chaean.teamchatsa.domain.notification.model.Notification;
+import com.chaean.teamchatsa.domain.notification.repository.NotificationRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 알림 SSE(Server-Sent Events) 푸시 서비스
+ * 구독 연결은 노드 로컬에 보관하고, 알림은 Redis Pub/Sub으로 모든 노드에 전파하여 연결을 가진 노드가 전송
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationSseService implements MessageListener {
+
+	private static final String PUSH_CHANNEL = "notification:push";
+	// 만료 시 클라이언트(EventSource)가 Last-Event-ID와 함께 자동 재연결
+	private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1_000L;
+	private static final long HEARTBEAT_INTERVAL_MILLIS = 25_000L;
+	private static final int REPLAY_LIMIT = 100;
+	// 마지막으로 받은 알림과 동시에 생성되어 늦게 커밋된 알림을 다시 보내기 위한 겹침 구간
+	private static final Duration REPLAY_OVERLAP = Duration.ofSeconds(10);
+
+	private final NotificationRepository notificationRepo;
+	private final NotificationUnreadCounter unreadCounter;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+
+	private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void init() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(PUSH_CHANNEL));
+	}
+
+	/**
+	 * 알림 구독
+	 * 연결 직후 읽지 않은 개수를 보내고, Last-Event-ID가 있으면 그 이후 알림을 재전송
+	 * 구독 등록 후 겹침 구간을 포함해 재전송하므로 중복이 생길 수 있으며, 클라이언트는 알림 ID로 중복 제거
+	 * 재전송은 최선 노력(best-effort)으로, 겹침 구간보다 오래 걸린 트랜잭션의 알림이나 100건을 넘는 알림은 목록 조회로 복구
+	 */
+	public SseEmitter subscribe(Long userId, Long lastEventId) {
+		SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+		emitters.computeIfAbsent(userId, key -> new CopyOnWriteArrayList<>()).add(emitter);
+
+		emitter.onCompletion(() -> remove(userId, emitter));
+		emitter.onTimeout(() -> remove(userId, emitter));
+		emitter.onError(e -> remove(userId, emitter));
+
+		long unreadCount = unreadCounter.get(userId);
+		send(userId, emitter, SseEmitter.event()
+				.name("connect")
+				.data(Map.of("unreadCount", unreadCount)));
+
+		if (lastEventId != null) {
+			List<Notification> missed = notificationRepo.findReplayTargets(
+					userId, lastEventId, replayOverlapFrom(userId, lastEventId), PageRequest.of(0, REPLAY_LIMIT));
+			for (Notification notification : missed) {
+				send(userId, emitter, notificationEvent(NotificationResponse.fromEntity(notification)));
+			}
+		}
+
+		log.info("알림 구독 시작: userId={}, lastEventId={}", userId, lastEventId);
+		return emitter;
+	}
+
+	// 마지막으로 받은 알림 생성 시각 기준 겹침 구간 시작 (알림이 없으면 현재 시각, 즉 ID 기준으로만 재전송)
+	private LocalDateTime replayOverlapFrom(Long userId, Long lastEventId) {
+		return notificationRepo.findById(lastEventId)
+				.filter(notification -> notification.getRecipientId().equals(userId))
+				.map(notification -> notification.getCreatedAt().minus(REPLAY_OVERLAP))
+				.orElseGet(LocalDateTime::now);
+	}
+
+	/**
+	 * 푸시 메시지 발행 (모든 노드로 전파)
+	 */
+	public void publish(List<NotificationPushMessage> messages) {
+		if (messages.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.convertAndSend(PUSH_CHANNEL, objectMapper.writeValueAsString(messages));
+		} catch (Exception e) {
+			// 푸시 실패 시에도 알림은 저장되어 있으므로 재연결/조회 시 복구됨
+			log.error("알림 푸시 발행 실패: count={}", messages.size(), e);
+		}
+	}
+
+	/** 다른 노드(자신 포함)에서 발행한 푸시 메시지 수신 후 로컬 구독자에게 전송 */
+	@Override
+	public void onMessage(Message message, byte[] channel) {
+		try {
+			List<NotificationPushMessage> messages = objectMapper.readValue(
+					new String(message.getBody(), StandardCharsets.UTF_8),
+					new TypeReference<List<NotificationPushMessage>>() {
+					}
+			);
+			messages.forEach(this::deliver);
+		} catch (Exception e) {
+			log.error("알림 푸시 메시지 처리 실패", e);
+		}
+	}
+
+	/**
+	 * 하트비트 전송 (프록시/로드밸런서 유휴 연결 종료 방지 및 끊어진 연결 정리)
+	 */
+	@Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MILLIS)
+	public void sendHeartbeat() {
+		emitters.forEach((userId, userEmitters) ->
+				userEmitters.forEach(emitter -> send(userId, emitter, SseEmitter.event().comment("heartbeat"))));
+	}
+
+	private void deliver(NotificationPushMessage message) {
+		List<SseEmitter> userEmitters = emitters.get(message.getRecipientId());
+		if (userEmitters == null) {
+			return;
+		}
+
+		// SseEventBuilder는 재사용할 수 없으므로 연결마다 새로 생성
+		userEmitters.forEach(emitter -> send(message.getRecipientId(), emitter, toEvent(message)));
+	}
+
+	private SseEmitter.SseEventBuilder toEvent(NotificationPushMessage message) {
+		if (NotificationPushMessage.NOTIFICATION.equals(message.getEvent())) {
+			return notificationEvent(message.getNotification());
+		}
+		return SseEmitter.event()
+				.name(NotificationPushMessage.UNREAD_COUNT)
+				.data(message.getCount() != null
+						? Map.of("count", message.getCount())
+						: Map.of("delta", message.getDelta()));
+	}
+
+	private SseEmitter.SseEventBuilder notificationEvent(NotificationResponse notification) {
+		return SseEmitter.event()
+				.id(String.valueOf(notification.getId()))
+				.name(NotificationPushMessage.NOTIFICATION)
+				.data(notification);
+	}
+
+	private void send(Long userId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+		try {
+			emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			log.debug("알림 전송 실패로 구독 해제: userId={}", userId);
+			remove(userId, emitter);
+		}
+	}
+
+	private void remove(Long userId, SseEmitter emitter) {
+		emitters.computeIfPresent(userId, (key, userEmitters) -> {
+			userEmitters.remove(emitter);
+			return userEmitters.isEmpty() ? null : userEmitters;
+		});
+	}
+}
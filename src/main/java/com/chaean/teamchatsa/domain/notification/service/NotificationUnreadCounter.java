@@ -0,0 +1,200 @@
+package com.chaean.teamchatsa.domain.notification.service;
+
+import com.chaean.teamchatsa.domain.notification.repository.NotificationRepository;
+import com.chaean.teamchatsa.domain.notification.repository.projection.UnreadCountProjection;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 읽지 않은 알림 개수 Redis 카운터
+ * 키가 없으면 DB COUNT로 재구성하고, 키가 있을 때만 증감하여 재구성 전 증감이 이중 반영되지 않도록 함
+ * 재구성의 COUNT와 적재 사이에 들어온 증감은 키가 없어 반영되지 않으므로 값은 최종 일관성(eventual consistency)만 보장하며,
+ * 이런 불일치는 보정 스케줄러(reconcile, 기본 10분 주기)가 DB 값으로 바로잡음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+	private static final String KEY_PREFIX = "notification:unread:";
+	private static final Duration TTL = Duration.ofDays(1);
+	private static final int SCAN_COUNT = 500;
+
+	// 키가 있을 때만 증감, 음수가 되면 키를 지워 다음 조회 시 재구성
+	private static final byte[] INCR_IF_EXISTS_SCRIPT = """
+			if redis.call('EXISTS', KEYS[1]) == 0 then
+			    return nil
+			end
+			local value = redis.call('INCRBY', KEYS[1], ARGV[1])
+			if value < 0 then
+			    redis.call('DEL', KEYS[1])
+			    return nil
+			end
+			return value
+			""".getBytes(StandardCharsets.UTF_8);
+
+	// 보정 중 다른 증감이 반영되었으면 덮어쓰지 않음
+	private static final byte[] COMPARE_AND_SET_SCRIPT = """
+			if redis.call('GET', KEYS[1]) == ARGV[1] then
+			    redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL')
+			    return 1
+			end
+			return 0
+			""".getBytes(StandardCharsets.UTF_8);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final NotificationRepository notificationRepo;
+
+	/**
+	 * 읽지 않은 알림 개수 조회 (미스 시 DB에서 재구성)
+	 * 재구성 도중의 증감은 누락될 수 있으며 다음 보정 주기까지 이전 값이 남을 수 있음
+	 */
+	public long get(Long userId) {
+		String key = key(userId);
+		try {
+			String cached = redisTemplate.opsForValue().get(key);
+			if (cached != null) {
+				return Long.parseLong(cached);
+			}
+		} catch (Exception e) {
+			log.error("읽지 않은 알림 카운터 조회 실패: userId={}", userId, e);
+			return notificationRepo.countByRecipientIdAndIsReadFalse(userId);
+		}
+
+		long count = notificationRepo.countByRecipientIdAndIsReadFalse(userId);
+		try {
+			// 재구성 도중 다른 요청이 먼저 적재했다면 그 값을 유지
+			redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL);
+		} catch (Exception e) {
+			log.error("읽지 않은 알림 카운터 재구성 실패: userId={}", userId, e);
+		}
+		return count;
+	}
+
+	/**
+	 * 사용자별 증감량을 한 번의 파이프라인으로 반영
+	 */
+	public void increase(Map<Long, Long> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				deltas.forEach((userId, delta) -> connection.scriptingCommands().eval(
+						INCR_IF_EXISTS_SCRIPT,
+						ReturnType.INTEGER,
+						1,
+						bytes(key(userId)),
+						bytes(String.valueOf(delta))
+				));
+				return null;
+			});
+		} catch (Exception e) {
+			// 증감 실패 시 키를 지워 다음 조회에서 DB 기준으로 재구성
+			log.error("읽지 않은 알림 카운터 증감 실패: userIds={}", deltas.keySet(), e);
+			evict(deltas.keySet().stream().toList());
+		}
+	}
+
+	/**
+	 * 카운터를 지정 값으로 설정 (모두 읽음 처리 시 0)
+	 */
+	public void set(Long userId, long count) {
+		try {
+			redisTemplate.opsForValue().set(key(userId), String.valueOf(count), TTL);
+		} catch (Exception e) {
+			log.error("읽지 않은 알림 카운터 설정 실패: userId={}", userId, e);
+			evict(List.of(userId));
+		}
+	}
+
+	/**
+	 * 적재된 카운터를 DB 값과 비교하여 보정하고, 보정된 카운터 수를 반환
+	 */
+	public int reconcile() {
+		int fixed = 0;
+		ScanOptions options = ScanOptions.scanOptions()
+				.match(KEY_PREFIX + "*")
+				.count(SCAN_COUNT)
+				.build();
+
+		List<String> keys = new ArrayList<>(SCAN_COUNT);
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				keys.add(cursor.next());
+				if (keys.size() >= SCAN_COUNT) {
+					fixed += reconcileBatch(keys);
+					keys.clear();
+				}
+			}
+		}
+		if (!keys.isEmpty()) {
+			fixed += reconcileBatch(keys);
+		}
+		return fixed;
+	}
+
+	private int reconcileBatch(List<String> keys) {
+		List<String> cachedValues = redisTemplate.opsForValue().multiGet(keys);
+		List<Long> userIds = keys.stream()
+				.map(key -> Long.parseLong(key.substring(KEY_PREFIX.length())))
+				.toList();
+
+		Map<Long, Long> actualCounts = notificationRepo.countUnreadGroupByRecipientId(userIds).stream()
+				.collect(Collectors.toMap(
+						UnreadCountProjection::getRecipientId,
+						UnreadCountProjection::getUnreadCount
+				));
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (int i = 0; i < keys.size(); i++) {
+				String cached = cachedValues == null ? null : cachedValues.get(i);
+				String actual = String.valueOf(actualCounts.getOrDefault(userIds.get(i), 0L));
+				if (cached == null || cached.equals(actual)) {
+					continue;
+				}
+				connection.scriptingCommands().eval(
+						COMPARE_AND_SET_SCRIPT,
+						ReturnType.INTEGER,
+						1,
+						bytes(keys.get(i)),
+						bytes(cached),
+						bytes(actual)
+				);
+			}
+			return null;
+		});
+
+		return (int) results.stream()
+				.filter(result -> result instanceof Number number && number.longValue() == 1L)
+				.count();
+	}
+
+	private void evict(List<Long> userIds) {
+		try {
+			redisTemplate.delete(userIds.stream().map(this::key).toList());
+		} catch (Exception e) {
+			log.error("읽지 않은 알림 카운터 삭제 실패: userIds={}", userIds, e);
+		}
+	}
+
+	private String key(Long userId) {
+		return KEY_PREFIX + userId;
+	}
+
+	private byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
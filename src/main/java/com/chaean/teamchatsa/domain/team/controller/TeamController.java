@@ -61,16 +61,18 @@ public class TeamController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(null));
 	}
 
-	@Operation(summary = "팀 목록 조회 API", description = "팀 목록을 페이징 처리하여 조회합니다. (무한스크롤)")
+	@Operation(summary = "팀 목록 조회 API",
+			description = "팀 목록을 페이징 처리하여 조회합니다. (무한스크롤) cursor 파라미터를 보내면 커서 기반으로 조회하며, 첫 페이지는 빈 cursor로 요청하고 이후에는 응답의 nextCursor를 사용합니다.")
 	@GetMapping("")
 	public ResponseEntity<ApiResponse<SliceResponse<TeamListResponse>>> getTeams(
 			@RequestParam(required = false) String area,
 			@RequestParam(required = false) Integer level,
 			@RequestParam(defaultValue = "0") int page,
 			@RequestParam(defaultValue = "10") int size,
+			@RequestParam(required = false) String cursor,
 			@RequestParam(required = false) String teamName
 	) {
-		SliceResponse<TeamListResponse> response = teamService.findTeamList(page, size, teamName, level);
+		SliceResponse<TeamListResponse> response = teamService.findTeamList(page, size, cursor, teamName, level);
 		return ResponseEntity.ok(ApiResponse.success(response));
 	}
 
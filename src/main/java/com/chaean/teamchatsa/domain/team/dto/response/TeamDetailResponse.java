@@ -18,12 +18,14 @@ public class TeamDetailResponse {
 	private String area;
 	private String img;
 	private String description;
-	private Long memberCount;
+	private Integer memberCount;
 	private Integer level;
 	private String levelLabel;
 	private TeamRole userRole;
+	// AI 팀 스타일 요약 (선택 기능, 미생성 시 null)
+	private String styleSummary;
 
-	public static TeamDetailResponse fromEntity(Team team, TeamRole userRole, Long memberCount) {
+	public static TeamDetailResponse fromEntity(Team team, TeamRole userRole) {
 		TeamLevel level = team.getLevel();
 		return new TeamDetailResponse(
 				team.getId(),
@@ -32,10 +34,11 @@ public class TeamDetailResponse {
 				team.getArea(),
 				team.getImg(),
 				team.getDescription(),
-				memberCount,
+				team.getMemberCount(),
 				level != null ? level.getValue() : null,
 				level != null ? level.getDescription() : null,
-				userRole
+				userRole,
+				team.getStyleSummary()
 		);
 	}
 }
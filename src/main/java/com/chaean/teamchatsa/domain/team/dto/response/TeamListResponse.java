@@ -15,7 +15,7 @@ public class TeamListResponse {
 	private String area;
 	private String img;
 	private String description;
-	private Long memberCount;
+	private Integer memberCount;
 	private Integer level;
 	private String levelLabel;
 
@@ -25,7 +25,7 @@ public class TeamListResponse {
 			String area,
 			String img,
 			String description,
-			Long memberCount,
+			Integer memberCount,
 			TeamLevel level
 	) {
 		this.id = id;
@@ -1,15 +1,19 @@
 package com.chaean.teamchatsa.domain.team.event;
 
+import com.chaean.teamchatsa.global.outbox.DomainEvent;
 import java.time.LocalDateTime;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 팀 가입 신청 생성 이벤트
  */
 @Getter
 @AllArgsConstructor
-public class TeamApplicationCreatedEvent {
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class TeamApplicationCreatedEvent implements DomainEvent {
 
 	private final Long teamId;
 	private final Long applicantUserId;
@@ -1,16 +1,20 @@
 package com.chaean.teamchatsa.domain.team.event;
 
 import com.chaean.teamchatsa.domain.team.model.JoinStatus;
+import com.chaean.teamchatsa.global.outbox.DomainEvent;
 import java.time.LocalDateTime;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 팀 가입 신청 처리 이벤트 (승인/거절)
  */
 @Getter
 @AllArgsConstructor
-public class TeamApplicationProcessedEvent {
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class TeamApplicationProcessedEvent implements DomainEvent {
 
 	private final Long applicantUserId;
 	private final String teamName;
@@ -1,14 +1,18 @@
 package com.chaean.teamchatsa.domain.team.event;
 
+import com.chaean.teamchatsa.global.outbox.DomainEvent;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 팀 리뷰 임베딩 이벤트
  */
 @Getter
 @AllArgsConstructor
-public class TeamReviewCreatedEvent {
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class TeamReviewCreatedEvent implements DomainEvent {
 
 	private final Long teamId;
 }
@@ -2,12 +2,10 @@ package com.chaean.teamchatsa.domain.team.listener;
 
 import com.chaean.teamchatsa.domain.team.event.TeamReviewCreatedEvent;
 import com.chaean.teamchatsa.domain.team.service.TeamAiEventService;
+import com.chaean.teamchatsa.global.outbox.OutboxEventListener;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 @Slf4j
 @Component
@@ -18,9 +16,9 @@ public class TeamAiEventListener {
 
 	/**
 	 * 팀 리뷰 생성 시 AI 스타일 벡터 갱신 이벤트 핸들러
+	 * 재계산 대상 표시만 하므로 AI 실행기를 점유하지 않음 (실제 재계산은 TeamStyleVectorScheduler)
 	 */
-	@Async
-	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	@OutboxEventListener("team.style-vector-refresh")
 	public void handleTeamAiEvent(TeamReviewCreatedEvent event) {
 		teamAiEventService.handleTeamAiEvent(event);
 	}
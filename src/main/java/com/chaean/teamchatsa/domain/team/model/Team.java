@@ -13,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -72,15 +73,33 @@ public class Team extends BaseEntity {
 	@Column(name = "win_rate", nullable = false)
 	private Double winRate = 0.0;
 
+	/** 팀원 수 (비정규화) - 엔티티 UPDATE 시 동시 증감분을 덮어쓰지 않도록 TeamRepository 원자 쿼리로만 변경 */
+	@Builder.Default
+	@NotNull
+	@Column(name = "member_count", nullable = false, updatable = false)
+	private Integer memberCount = 0;
+
 	@Size(max = 255)
 	@Column(name = "img")
 	private String img;
 
-	@Column(name = "style_vector", columnDefinition = "vector(384)")
+	/** 스타일 벡터 관련 컬럼은 엔티티 UPDATE가 리뷰 반영분을 덮어쓰지 않도록 TeamRepository 쿼리로만 변경 */
+	@Column(name = "style_vector", columnDefinition = "vector(384)", updatable = false)
 	@JdbcTypeCode(SqlTypes.VECTOR)
 	@Array(length = 384)
 	private float[] styleVector;
 
+	@Builder.Default
+	@NotNull
+	@Column(name = "style_weight", nullable = false, updatable = false)
+	private Double styleWeight = 0.0;
+
+	@Column(name = "style_updated_at", updatable = false)
+	private LocalDateTime styleUpdatedAt;
+
+	@Column(name = "style_summary", columnDefinition = "TEXT", updatable = false)
+	private String styleSummary;
+
 	public static Team create(
 			Long leaderUserId,
 			String name,
@@ -101,14 +120,11 @@ public class Team extends BaseEntity {
 				.level(level)
 				.img(img)
 				.winRate(0.0)
+				.memberCount(1)
 				.build();
 	}
 
 	public void updateWinRate(double winRate) {
 		this.winRate = winRate;
 	}
-
-	public void updateStyleVector(float[] styleVector) {
-		this.styleVector = styleVector;
-	}
 }
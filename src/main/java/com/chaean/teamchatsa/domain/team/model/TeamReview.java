@@ -10,13 +10,17 @@ import jakarta.persistence.Table;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Array;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.type.SqlTypes;
 
 @Getter
 @Entity
@@ -52,4 +56,18 @@ public class TeamReview extends BaseEntity {
 	@NotNull
 	@Column(name = "content", columnDefinition = "TEXT")
 	private String content;
+
+	/** 리뷰 본문 임베딩 (작성 후 스타일 벡터 배치 작업에서 한 번만 생성) */
+	@Column(name = "content_vector", columnDefinition = "vector(384)")
+	@JdbcTypeCode(SqlTypes.VECTOR)
+	@Array(length = 384)
+	private float[] contentVector;
+
+	/** 임베딩 API가 영구적으로 거부하여 스타일 벡터 반영에서 제외된 시각 */
+	@Column(name = "embedding_skipped_at")
+	private LocalDateTime embeddingSkippedAt;
+
+	public void updateContentVector(float[] contentVector) {
+		this.contentVector = contentVector;
+	}
 }
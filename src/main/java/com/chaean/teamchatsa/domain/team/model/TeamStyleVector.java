@@ -0,0 +1,63 @@
+package com.chaean.teamchatsa.domain.team.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팀 스타일 벡터의 최신성 가중 평균 (리뷰 임베딩 누적)
+ * 리뷰 가중치는 반감기마다 절반으로 줄어들며, 전체 리뷰를 다시 읽지 않고 리뷰 하나를 O(dim)으로 반영
+ * 기준 시각(updatedAt)은 반영된 리뷰 중 가장 최근 작성 시각이며, 가중치는 이 시각 기준 값
+ */
+@Getter
+@RequiredArgsConstructor
+public class TeamStyleVector {
+
+	private final float[] vector;
+	private final double weight;
+	private final LocalDateTime updatedAt;
+
+	public static TeamStyleVector of(Team team) {
+		return new TeamStyleVector(team.getStyleVector(), team.getStyleWeight(), team.getStyleUpdatedAt());
+	}
+
+	/**
+	 * 리뷰 임베딩을 반영한 새 평균 반환
+	 * 누적 상태가 없으면(기존 요약 기반 벡터 포함) 리뷰 벡터로 새로 시작
+	 */
+	public TeamStyleVector add(float[] reviewVector, LocalDateTime reviewedAt, Duration halfLife) {
+		if (vector == null || weight <= 0 || updatedAt == null) {
+			return new TeamStyleVector(reviewVector.clone(), 1.0, reviewedAt);
+		}
+		if (vector.length != reviewVector.length) {
+			throw new IllegalArgumentException(
+					"스타일 벡터 차원이 일치하지 않습니다. (%d, %d)".formatted(vector.length, reviewVector.length));
+		}
+
+		// 늦게 처리된 과거 리뷰는 기준 시각을 유지하고 리뷰 쪽 가중치를 감쇠
+		double existingWeight;
+		double reviewWeight;
+		LocalDateTime latest;
+		if (reviewedAt.isBefore(updatedAt)) {
+			existingWeight = weight;
+			reviewWeight = decay(reviewedAt, updatedAt, halfLife);
+			latest = updatedAt;
+		} else {
+			existingWeight = weight * decay(updatedAt, reviewedAt, halfLife);
+			reviewWeight = 1.0;
+			latest = reviewedAt;
+		}
+
+		double totalWeight = existingWeight + reviewWeight;
+		float[] mean = new float[vector.length];
+		for (int i = 0; i < vector.length; i++) {
+			mean[i] = (float) ((vector[i] * existingWeight + reviewVector[i] * reviewWeight) / totalWeight);
+		}
+		return new TeamStyleVector(mean, totalWeight, latest);
+	}
+
+	private static double decay(LocalDateTime from, LocalDateTime to, Duration halfLife) {
+		return Math.pow(0.5, (double) Duration.between(from, to).toMillis() / halfLife.toMillis());
+	}
+}
@@ -1,8 +1,16 @@
 package com.chaean.teamchatsa.domain.team.repository;
 
 import com.chaean.teamchatsa.domain.team.model.Team;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface TeamRepository extends JpaRepository<Team, Long>, TeamRepositoryCustom {
 
@@ -14,4 +22,95 @@ public interface TeamRepository extends JpaRepository<Team, Long>, TeamRepositor
 			)
 			""")
 	boolean existsByName(String teamName);
+
+	/**
+	 * 팀원 수 원자적 증감 (가입/탈퇴/강퇴 시 사용)
+	 * 읽고-쓰기 없이 단일 UPDATE로 처리하여 동시 수락 시에도 유실 없음
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE app.team
+			   SET member_count = GREATEST(member_count + :delta, 0)
+			 WHERE id = :teamId
+			""", nativeQuery = true)
+	int updateMemberCount(Long teamId, int delta);
+
+	/**
+	 * 팀원 수 재집계 대상 팀 ID (ID 순 키셋 페이지)
+	 */
+	@Query(value = """
+			SELECT id
+			  FROM app.team
+			 WHERE id > :afterId
+			 ORDER BY id
+			 LIMIT :limit
+			""", nativeQuery = true)
+	List<Long> findIdsAfter(Long afterId, int limit);
+
+	/**
+	 * 팀원 수 재집계 전 팀 행 잠금 (ID 순으로 잠가 동시 실행 시 교착 방지)
+	 * 팀원 수 증감(updateMemberCount)이 같은 행을 잠그므로, 잠금 이후의 집계에는 진행 중이던 증감이 모두 반영됨
+	 */
+	@Query(value = """
+			SELECT id
+			  FROM app.team
+			 WHERE id IN (:teamIds)
+			 ORDER BY id
+			   FOR UPDATE
+			""", nativeQuery = true)
+	List<Long> lockByIdIn(Collection<Long> teamIds);
+
+	/**
+	 * 팀원 수 재집계
+	 * team_member 기준 실제 인원과 다른 팀만 보정하고, 보정된 팀 수를 반환 (lockByIdIn으로 잠근 뒤 같은 트랜잭션에서 호출)
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE app.team t
+			   SET member_count = c.cnt
+			  FROM (SELECT t2.id AS team_id, COUNT(tm.id) AS cnt
+			          FROM app.team t2
+			          LEFT JOIN app.team_member tm
+			            ON tm.team_id = t2.id
+			           AND tm.deleted_at IS NULL
+			         WHERE t2.id IN (:teamIds)
+			         GROUP BY t2.id) c
+			 WHERE t.id = c.team_id
+			   AND t.member_count <> c.cnt
+			""", nativeQuery = true)
+	int reconcileMemberCounts(Collection<Long> teamIds);
+
+	/**
+	 * 스타일 벡터 누적을 위한 팀 조회 (같은 팀의 동시 반영이 서로 덮어쓰지 않도록 행 잠금)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT t FROM Team t WHERE t.id = :teamId")
+	Optional<Team> findByIdForUpdate(Long teamId);
+
+	/**
+	 * 팀 스타일 벡터 누적 상태 갱신
+	 * 엔티티 UPDATE 대상에서 제외된 컬럼이므로 단일 UPDATE로 반영하며, 벡터는 real[] 배열로 바인딩
+	 */
+	@Modifying
+	@Query(value = """
+			UPDATE app.team
+			   SET style_vector = CAST(:styleVector AS vector),
+			       style_weight = :styleWeight,
+			       style_updated_at = :styleUpdatedAt
+			 WHERE id = :teamId
+			""", nativeQuery = true)
+	int updateStyleVector(Long teamId, float[] styleVector, double styleWeight, LocalDateTime styleUpdatedAt);
+
+	/**
+	 * AI 팀 스타일 요약 갱신 (표시용)
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+			UPDATE app.team
+			   SET style_summary = :styleSummary
+			 WHERE id = :teamId
+			   AND deleted_at IS NULL
+			""", nativeQuery = true)
+	int updateStyleSummary(Long teamId, String styleSummary);
 }
@@ -1,13 +1,14 @@
 package com.chaean.teamchatsa.domain.team.repository;
 
 import com.chaean.teamchatsa.domain.team.dto.response.TeamListResponse;
+import com.chaean.teamchatsa.global.common.dto.SliceResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
 public interface TeamRepositoryCustom {
 
 	/**
-	 * 팀 목록 조회 (커서 기반 페이징)
+	 * 팀 목록 조회 (오프셋 페이징)
 	 */
 	Slice<TeamListResponse> findTeamListWithPagination(Pageable pageable, Integer level);
 
@@ -15,4 +16,14 @@ public interface TeamRepositoryCustom {
 	 * 팀 목록 조회 (이름 검색
 	 */
 	Slice<TeamListResponse> findTeamListByNameWithPagination(Pageable pageable, String teamName, Integer level);
+
+	/**
+	 * 팀 목록 조회 (커서 기반 페이징, createdAt + id)
+	 */
+	SliceResponse<TeamListResponse> findTeamListWithCursor(String cursor, int size, Integer level);
+
+	/**
+	 * 팀 목록 조회 (이름 검색, 커서 기반 페이징, 유사도 + id)
+	 */
+	SliceResponse<TeamListResponse> findTeamListByNameWithCursor(String cursor, int size, String teamName, Integer level);
 }
@@ -2,18 +2,23 @@ package com.chaean.teamchatsa.domain.team.repository;
 
 import com.chaean.teamchatsa.domain.team.dto.response.TeamListResponse;
 import com.chaean.teamchatsa.domain.team.model.QTeam;
-import com.chaean.teamchatsa.domain.team.model.QTeamMember;
+import com.chaean.teamchatsa.global.common.dto.SliceResponse;
+import com.chaean.teamchatsa.global.common.util.CursorCodec;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberTemplate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
 
 /**
  * Team QueryDSL 구현체
@@ -25,12 +30,13 @@ public class TeamRepositoryImpl implements TeamRepositoryCustom {
 	private final JPAQueryFactory queryFactory;
 
 	/**
-	 * 팀 목록 조회 (QueryDSL 최적화) LEFT JOIN + GROUP BY 방식으로 서브쿼리 제거
+	 * 팀 목록 조회 (QueryDSL 최적화)
+	 * 비정규화된 member_count를 사용하여 team_member JOIN + GROUP BY 없이 조회
+	 * deleted_at 조건은 부분 인덱스(idx_team_created_id_not_deleted) 사용을 위해 명시
 	 */
 	@Override
 	public Slice<TeamListResponse> findTeamListWithPagination(Pageable pageable, Integer level) {
 		QTeam t = QTeam.team;
-		QTeamMember tm = QTeamMember.teamMember;
 
 		List<TeamListResponse> content = queryFactory
 				.select(Projections.constructor(
@@ -40,15 +46,14 @@ public class TeamRepositoryImpl implements TeamRepositoryCustom {
 						t.area,
 						t.img,
 						t.description,
-						tm.id.count(),
+						t.memberCount,
 						t.level
 				))
 				.from(t)
-				.leftJoin(tm).on(
-						tm.teamId.eq(t.id)
+				.where(
+						t.deletedAt.isNull(),
+						levelEq(t, level)
 				)
-				.where(levelEq(t, level))
-				.groupBy(t.id, t.name, t.area, t.img, t.description, t.createdAt)
 				.orderBy(t.createdAt.desc(), t.id.desc())
 				.offset(pageable.getOffset())
 				.limit(pageable.getPageSize() + 1)
@@ -61,7 +66,6 @@ public class TeamRepositoryImpl implements TeamRepositoryCustom {
 	@Override
 	public Slice<TeamListResponse> findTeamListByNameWithPagination(Pageable pageable, String teamName, Integer level) {
 		QTeam t = QTeam.team;
-		QTeamMember tm = QTeamMember.teamMember;
 
 		NumberTemplate<Double> score = Expressions.numberTemplate(
 				Double.class,
@@ -81,18 +85,14 @@ public class TeamRepositoryImpl implements TeamRepositoryCustom {
 						t.area,
 						t.img,
 						t.description,
-						tm.id.count(),
+						t.memberCount,
 						t.level
 				))
 				.from(t)
-				.leftJoin(tm).on(
-						tm.teamId.eq(t.id)
-				)
 				.where(
 						nameMatch,
 						levelEq(t, level)
 				)
-				.groupBy(t.id, t.name, t.area, t.img, t.description, t.createdAt)
 				.orderBy(score.desc(), t.id.desc())
 				.offset(pageable.getOffset())
 				.limit(pageable.getPageSize() + 1)
@@ -102,6 +102,128 @@ public class TeamRepositoryImpl implements TeamRepositoryCustom {
 		return createSlice(content, pageable);
 	}
 
+	/**
+	 * 팀 목록 조회 (커서 기반)
+	 * (created_at DESC, id DESC) 인덱스 순서대로 커서 위치부터 스캔하므로 페이지 깊이와 무관하게 동일 비용
+	 */
+	@Override
+	public SliceResponse<TeamListResponse> findTeamListWithCursor(String cursor, int size, Integer level) {
+		QTeam t = QTeam.team;
+		ConstructorExpression<TeamListResponse> projection = teamListProjection(t);
+
+		List<Tuple> rows = queryFactory
+				.select(projection, t.createdAt)
+				.from(t)
+				.where(
+						t.deletedAt.isNull(),
+						levelEq(t, level),
+						createdAtCursorCondition(cursor, t)
+				)
+				.orderBy(t.createdAt.desc(), t.id.desc())
+				.limit(size + 1)
+				.fetch();
+
+		boolean hasNext = rows.size() > size;
+		List<Tuple> page = hasNext ? rows.subList(0, size) : rows;
+		List<TeamListResponse> content = page.stream().map(row -> row.get(projection)).toList();
+
+		String nextCursor = null;
+		if (hasNext && !page.isEmpty()) {
+			Tuple lastRow = page.get(page.size() - 1);
+			nextCursor = CursorCodec.encode(lastRow.get(t.createdAt), lastRow.get(projection).getId());
+		}
+
+		return SliceResponse.of(content, !hasNext, nextCursor);
+	}
+
+	/**
+	 * 팀 목록 조회 (이름 검색, 커서 기반)
+	 * 유사도 점수는 커서 비교 시 값이 정확히 일치하도록 double로 캐스팅해 사용
+	 */
+	@Override
+	public SliceResponse<TeamListResponse> findTeamListByNameWithCursor(String cursor, int size, String teamName, Integer level) {
+		QTeam t = QTeam.team;
+		ConstructorExpression<TeamListResponse> projection = teamListProjection(t);
+
+		NumberTemplate<Double> score = Expressions.numberTemplate(
+				Double.class,
+				"cast(similarity({0}, {1}) as Double)",
+				t.name,
+				teamName
+		);
+
+		BooleanExpression nameMatch =
+				Expressions.booleanTemplate("{0} ILIKE {1}", t.name, "%" + teamName + "%");
+
+		List<Tuple> rows = queryFactory
+				.select(projection, score)
+				.from(t)
+				.where(
+						nameMatch,
+						levelEq(t, level),
+						scoreCursorCondition(cursor, score, t)
+				)
+				.orderBy(score.desc(), t.id.desc())
+				.limit(size + 1)
+				.fetch();
+
+		boolean hasNext = rows.size() > size;
+		List<Tuple> page = hasNext ? rows.subList(0, size) : rows;
+		List<TeamListResponse> content = page.stream().map(row -> row.get(projection)).toList();
+
+		String nextCursor = null;
+		if (hasNext && !page.isEmpty()) {
+			Tuple lastRow = page.get(page.size() - 1);
+			nextCursor = CursorCodec.encode(lastRow.get(score), lastRow.get(projection).getId());
+		}
+
+		return SliceResponse.of(content, !hasNext, nextCursor);
+	}
+
+	private ConstructorExpression<TeamListResponse> teamListProjection(QTeam t) {
+		return Projections.constructor(
+				TeamListResponse.class,
+				t.id,
+				t.name,
+				t.area,
+				t.img,
+				t.description,
+				t.memberCount,
+				t.level
+		);
+	}
+
+	/** (createdAt, id) 내림차순 커서 이후 조건 */
+	private BooleanExpression createdAtCursorCondition(String cursor, QTeam t) {
+		if (!StringUtils.hasText(cursor)) {
+			return null;
+		}
+
+		return CursorCodec.decode(cursor, 2, parts -> {
+			LocalDateTime cursorCreatedAt = LocalDateTime.parse(parts[0]);
+			Long cursorId = Long.parseLong(parts[1]);
+
+			return t.createdAt.loe(cursorCreatedAt)
+					.and(t.createdAt.lt(cursorCreatedAt)
+							.or(t.id.lt(cursorId)));
+		});
+	}
+
+	/** (유사도, id) 내림차순 커서 이후 조건 */
+	private BooleanExpression scoreCursorCondition(String cursor, NumberTemplate<Double> score, QTeam t) {
+		if (!StringUtils.hasText(cursor)) {
+			return null;
+		}
+
+		return CursorCodec.decode(cursor, 2, parts -> {
+			Double cursorScore = Double.parseDouble(parts[0]);
+			Long cursorId = Long.parseLong(parts[1]);
+
+			return score.lt(cursorScore)
+					.or(score.eq(cursorScore).and(t.id.lt(cursorId)));
+		});
+	}
+
 	private BooleanExpression levelEq(QTeam team, Integer level) {
 		if (level == null) {
 			return null;
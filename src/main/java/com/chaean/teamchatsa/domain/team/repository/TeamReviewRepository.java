@@ -1,9 +1,16 @@
 package com.chaean.teamchatsa.domain.team.repository;
 
 import com.chaean.teamchatsa.domain.team.model.TeamReview;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface TeamReviewRepository extends JpaRepository<TeamReview, Long> {
@@ -11,4 +18,40 @@ public interface TeamReviewRepository extends JpaRepository<TeamReview, Long> {
     long countByTeamId(Long teamId);
 
     List<TeamReview> findTop10ByTeamIdOrderByCreatedAtDesc(Long teamId);
+
+    /**
+     * 아직 임베딩되지 않은 리뷰 조회 (팀별 작성 순)
+     */
+    @Query("""
+            SELECT r
+              FROM TeamReview r
+             WHERE r.teamId IN :teamIds
+               AND r.contentVector IS NULL
+               AND r.embeddingSkippedAt IS NULL
+             ORDER BY r.teamId, r.createdAt, r.id
+            """)
+    List<TeamReview> findPendingEmbedding(@Param("teamIds") Collection<Long> teamIds, Limit limit);
+
+    @Query("""
+            SELECT r
+              FROM TeamReview r
+             WHERE r.id IN :ids
+               AND r.contentVector IS NULL
+               AND r.embeddingSkippedAt IS NULL
+             ORDER BY r.createdAt, r.id
+            """)
+    List<TeamReview> findPendingEmbeddingByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 임베딩할 수 없는 리뷰를 임베딩 대기 대상에서 제외
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE TeamReview r
+               SET r.embeddingSkippedAt = :now
+             WHERE r.id IN :ids
+               AND r.contentVector IS NULL
+            """)
+    int markEmbeddingSkipped(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
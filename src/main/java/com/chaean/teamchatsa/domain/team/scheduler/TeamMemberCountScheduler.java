@@ -0,0 +1,46 @@
+package com.chaean.teamchatsa.domain.team.scheduler;
+
+import com.chaean.teamchatsa.domain.team.service.TeamService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀원 수(member_count) 정합성 보정 스케줄러
+ * 팀 ID 순으로 작은 배치마다 팀 행을 잠그고 집계하므로, 잠금은 배치 단위로 짧게 유지되고 동시 가입/탈퇴 증감이 유실되지 않음
+ * 보정은 어긋난 팀만 갱신하는 멱등 UPDATE이므로 여러 노드에서 동시에 실행되어도 결과가 같음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TeamMemberCountScheduler {
+
+	private static final int RECONCILE_BATCH_SIZE = 100;
+
+	private final TeamService teamService;
+
+	@Scheduled(cron = "${app.team.member-count-reconcile-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+	public void reconcileMemberCounts() {
+		int fixed = 0;
+		try {
+			Long afterId = 0L;
+			List<Long> teamIds;
+			do {
+				teamIds = teamService.findTeamIdsForReconcile(afterId, RECONCILE_BATCH_SIZE);
+				if (teamIds.isEmpty()) {
+					break;
+				}
+				fixed += teamService.reconcileMemberCounts(teamIds);
+				afterId = teamIds.get(teamIds.size() - 1);
+			} while (teamIds.size() == RECONCILE_BATCH_SIZE);
+		} catch (Exception e) {
+			log.error("팀원 수 재집계 실패: fixedTeams={}", fixed, e);
+			return;
+		}
+		if (fixed > 0) {
+			log.warn("팀원 수 불일치 보정: fixedTeams={}", fixed);
+		}
+	}
+}
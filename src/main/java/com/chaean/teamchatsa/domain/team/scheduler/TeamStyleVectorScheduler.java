@@ -0,0 +1,64 @@
+package com.chaean.teamchatsa.domain.team.scheduler;
+
+import com.chaean.teamchatsa.domain.team.service.TeamAiEventService;
+import com.chaean.teamchatsa.global.config.AsyncConfig;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 팀 스타일 벡터 배치 재계산 스케줄러
+ * 대상 팀은 원자적으로 한 노드만 임대하므로 여러 노드에서 동시에 실행되어도 중복 호출되지 않음
+ * 임베딩/요약 LLM 호출이 공용 스케줄러 풀(아웃박스 릴레이, 알림 병합, SSE 하트비트)을 점유하지 않도록
+ * 재계산은 AI 실행기에서 실행하며, 노드당 한 번에 하나만 실행하고 실행기가 포화되면 이번 주기는 건너뜀
+ * (대상 팀 임대는 작업 안에서 하므로 건너뛴 주기의 팀은 다음 주기에 그대로 처리됨)
+ */
+@Component
+@Slf4j
+public class TeamStyleVectorScheduler {
+
+	private final TeamAiEventService teamAiEventService;
+	private final Executor aiExecutor;
+	private final AtomicBoolean running = new AtomicBoolean(false);
+
+	@Value("${app.team.style-vector-batch-size:50}")
+	private int batchSize;
+
+	public TeamStyleVectorScheduler(
+			TeamAiEventService teamAiEventService,
+			@Qualifier(AsyncConfig.AI_EXECUTOR) Executor aiExecutor
+	) {
+		this.teamAiEventService = teamAiEventService;
+		this.aiExecutor = aiExecutor;
+	}
+
+	@Scheduled(fixedDelayString = "${app.team.style-vector-refresh-interval-millis:10000}")
+	public void refreshStyleVectors() {
+		// 이전 재계산이 아직 실행 중이면 건너뜀
+		if (!running.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			aiExecutor.execute(this::refresh);
+		} catch (RejectedExecutionException e) {
+			running.set(false);
+			log.warn("AI 실행기 포화로 팀 스타일 벡터 재계산을 건너뜁니다.");
+		}
+	}
+
+	private void refresh() {
+		try {
+			teamAiEventService.refreshDirtyTeams(batchSize);
+		} catch (Exception e) {
+			log.error("팀 스타일 벡터 재계산 실패", e);
+		} finally {
+			running.set(false);
+		}
+	}
+}
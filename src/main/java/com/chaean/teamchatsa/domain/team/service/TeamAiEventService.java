@@ -1,41 +1,190 @@
 package com.chaean.teamchatsa.domain.team.service;
 
 import com.chaean.teamchatsa.domain.team.event.TeamReviewCreatedEvent;
-import com.chaean.teamchatsa.domain.team.model.Team;
 import com.chaean.teamchatsa.domain.team.model.TeamReview;
 import com.chaean.teamchatsa.domain.team.repository.TeamRepository;
 import com.chaean.teamchatsa.domain.team.repository.TeamReviewRepository;
-import com.chaean.teamchatsa.global.exception.BusinessException;
-import com.chaean.teamchatsa.global.exception.ErrorCode;
+import com.chaean.teamchatsa.domain.team.service.TeamStyleVectorDirtySet.ClaimedTeams;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Map;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 팀 스타일 벡터 갱신 서비스
+ * 리뷰 이벤트는 팀을 재계산 대상으로 표시만 하고, 스케줄러가 구간마다 대상 팀의 새 리뷰를 모아
+ * 한 번의 배치 임베딩으로 리뷰 벡터를 만든 뒤 팀 벡터(최신성 가중 평균)에 누적 반영 (배치 실패 시 리뷰별 임베딩)
+ * LLM 팀 스타일 요약은 표시용 선택 기능(app.team.style-summary-enabled)이며 벡터 계산에 사용하지 않음
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TeamAiEventService {
 
 	private final TeamRepository teamRepository;
 	private final TeamReviewRepository teamReviewRepository;
+	private final TeamStyleVectorService teamStyleVectorService;
+	private final TeamStyleVectorDirtySet dirtySet;
 	private final ChatModel chatModel;
 	private final EmbeddingModel embeddingModel;
+	private final int reviewBatchSize;
+	private final boolean summaryEnabled;
 
-	@Transactional
+	public TeamAiEventService(
+			TeamRepository teamRepository,
+			TeamReviewRepository teamReviewRepository,
+			TeamStyleVectorService teamStyleVectorService,
+			TeamStyleVectorDirtySet dirtySet,
+			ChatModel chatModel,
+			EmbeddingModel embeddingModel,
+			@Value("${app.team.style-vector-review-batch-size:200}") int reviewBatchSize,
+			@Value("${app.team.style-summary-enabled:false}") boolean summaryEnabled
+	) {
+		this.teamRepository = teamRepository;
+		this.teamReviewRepository = teamReviewRepository;
+		this.teamStyleVectorService = teamStyleVectorService;
+		this.dirtySet = dirtySet;
+		this.chatModel = chatModel;
+		this.embeddingModel = embeddingModel;
+		this.reviewBatchSize = reviewBatchSize;
+		this.summaryEnabled = summaryEnabled;
+	}
+
+	/**
+	 * 리뷰 생성 시 팀을 재계산 대상으로 표시
+	 * Redis 장애 시 예외를 그대로 던져 아웃박스가 재시도하도록 함
+	 */
 	public void handleTeamAiEvent(TeamReviewCreatedEvent event) {
-		Long teamId = event.getTeamId();
-		log.info("[AI] 팀 스타일 벡터 갱신 시작 - TeamId: {}", teamId);
+		dirtySet.mark(event.getTeamId());
+		log.debug("[AI] 팀 스타일 벡터 재계산 예약 - TeamId: {}", event.getTeamId());
+	}
+
+	/**
+	 * 재계산 구간이 지난 팀의 새 리뷰를 임베딩하여 스타일 벡터에 반영하고, 반영한 리뷰 수를 반환
+	 * 임베딩/반영에 실패했거나 배치 크기를 넘어 남은 리뷰가 있는 팀은 다음 구간에 다시 처리
+	 * 대상 팀은 반영이 끝난 뒤에만 목록에서 제거하므로, 처리 중 노드가 중단되어도 임대가 끝나면 다시 처리
+	 */
+	public int refreshDirtyTeams(int batchSize) {
+		ClaimedTeams claimed = dirtySet.claimDue(batchSize);
+		if (claimed.isEmpty()) {
+			return 0;
+		}
+		List<Long> teamIds = claimed.getTeamIds();
+
+		List<TeamReview> reviews = teamReviewRepository.findPendingEmbedding(teamIds, Limit.of(reviewBatchSize));
+		if (reviews.size() >= reviewBatchSize) {
+			dirtySet.markAll(teamIds);
+		}
+		if (reviews.isEmpty()) {
+			dirtySet.complete(claimed);
+			return 0;
+		}
+		log.info("[AI] 리뷰 임베딩 시작 - teams: {}, reviews: {}", teamIds.size(), reviews.size());
+
+		Set<Long> failedTeamIds = new LinkedHashSet<>();
+		Map<Long, Map<Long, float[]>> vectorsByTeam = embedReviews(reviews, failedTeamIds);
+
+		int applied = 0;
+		for (Map.Entry<Long, Map<Long, float[]>> entry : vectorsByTeam.entrySet()) {
+			Long teamId = entry.getKey();
+			try {
+				applied += teamStyleVectorService.applyReviewVectors(teamId, entry.getValue());
+				if (summaryEnabled) {
+					refreshSummary(teamId);
+				}
+			} catch (Exception e) {
+				log.error("[AI] 팀 스타일 벡터 반영 실패 - TeamId: {}", teamId, e);
+				failedTeamIds.add(teamId);
+			}
+		}
+
+		dirtySet.markAll(failedTeamIds);
+		dirtySet.complete(claimed);
+		log.info("[AI] 팀 스타일 벡터 반영 완료 - reviews: {}, failedTeams: {}", applied, failedTeamIds.size());
+		return applied;
+	}
+
+	/**
+	 * 리뷰를 한 번의 요청으로 임베딩하고 팀별 (리뷰 ID → 벡터)로 묶어 반환
+	 * 배치 요청이 실패하면 리뷰별로 다시 요청하여, 한 리뷰 때문에 같은 배치의 다른 팀이 밀리지 않도록 함
+	 * 영구 오류 리뷰는 제외 표시 후 건너뛰고, 일시 오류가 나면 남은 리뷰의 팀만 다음 구간에 다시 처리
+	 */
+	private Map<Long, Map<Long, float[]>> embedReviews(List<TeamReview> reviews, Set<Long> failedTeamIds) {
+		Map<Long, Map<Long, float[]>> vectorsByTeam = new LinkedHashMap<>();
+		try {
+			// 결과는 입력 순서와 동일
+			List<float[]> reviewVectors = embeddingModel.embed(reviews.stream().map(TeamReview::getContent).toList());
+			for (int i = 0; i < reviews.size(); i++) {
+				TeamReview review = reviews.get(i);
+				vectorsByTeam.computeIfAbsent(review.getTeamId(), key -> new LinkedHashMap<>())
+						.put(review.getId(), reviewVectors.get(i));
+			}
+			return vectorsByTeam;
+		} catch (Exception e) {
+			log.warn("[AI] 리뷰 배치 임베딩 실패, 리뷰별로 재시도 - reviews: {}", reviews.size(), e);
+		}
+
+		List<TeamReview> rejectedReviews = new ArrayList<>();
+		for (int i = 0; i < reviews.size(); i++) {
+			TeamReview review = reviews.get(i);
+			try {
+				float[] reviewVector = embeddingModel.embed(review.getContent());
+				vectorsByTeam.computeIfAbsent(review.getTeamId(), key -> new LinkedHashMap<>())
+						.put(review.getId(), reviewVector);
+			} catch (NonTransientAiException e) {
+				log.error("[AI] 리뷰 임베딩 거부 - ReviewId: {}, TeamId: {}", review.getId(), review.getTeamId(), e);
+				rejectedReviews.add(review);
+			} catch (Exception e) {
+				// 일시 장애로 보고 남은 요청을 보내지 않음
+				log.error("[AI] 리뷰 임베딩 실패 - ReviewId: {}", review.getId(), e);
+				reviews.subList(i, reviews.size()).forEach(remaining -> failedTeamIds.add(remaining.getTeamId()));
+				break;
+			}
+		}
+
+		if (rejectedReviews.isEmpty()) {
+			return vectorsByTeam;
+		}
+		// 성공한 리뷰가 하나도 없으면 인증/설정 오류처럼 리뷰와 무관한 장애일 수 있으므로 건너뛰지 않고 재시도
+		if (vectorsByTeam.isEmpty()) {
+			rejectedReviews.forEach(review -> failedTeamIds.add(review.getTeamId()));
+			return vectorsByTeam;
+		}
+		log.warn("[AI] 임베딩할 수 없는 리뷰를 건너뜁니다. ReviewIds: {}",
+				rejectedReviews.stream().map(TeamReview::getId).toList());
+		teamReviewRepository.markEmbeddingSkipped(
+				rejectedReviews.stream().map(TeamReview::getId).toList(), LocalDateTime.now());
+		return vectorsByTeam;
+	}
 
-		// 최신 팀 리뷰 조회
+	// 표시용 요약 갱신 (실패해도 벡터 반영 결과에는 영향 없음)
+	private void refreshSummary(Long teamId) {
+		try {
+			String summary = summarize(teamId);
+			if (summary != null) {
+				teamRepository.updateStyleSummary(teamId, summary);
+			}
+		} catch (Exception e) {
+			log.warn("[AI] 팀 스타일 요약 실패 - TeamId: {}", teamId, e);
+		}
+	}
+
+	// 최신 리뷰를 바탕으로 팀 스타일 요약 생성 (리뷰가 없으면 null)
+	private String summarize(Long teamId) {
 		List<TeamReview> reviews = teamReviewRepository.findTop10ByTeamIdOrderByCreatedAtDesc(teamId);
 		if (reviews.isEmpty()) {
-			log.warn("[AI] 팀 리뷰가 존재하지 않아 벡터를 갱신할 수 없습니다. TeamId: {}", teamId);
-			return;
+			log.warn("[AI] 팀 리뷰가 존재하지 않아 스타일 요약을 생성할 수 없습니다. TeamId: {}", teamId);
+			return null;
 		}
 
 		String combinedReviews = reviews.stream()
@@ -47,26 +196,14 @@ public class TeamAiEventService {
 		String prompt = String.format("""
 				다음은 특정 팀에 대한 여러 사용자들의 리뷰 내용입니다:
 				[%s]
-				
+
 				위 리뷰들을 바탕으로 이 팀의 전반적인 플레이 스타일과 분위기를 '딱 두 문장'으로 요약해 주세요.
 				팀의 실력, 매너, 분위기 등 핵심 특징이 잘 드러나야 합니다.
 				예시: "이 팀은 뛰어난 조직력을 바탕으로 공격적인 플레이를 즐기는 팀입니다. 매너가 매우 좋아 상대 팀을 배려하며 전반적으로 즐겁게 게임하는 분위기입니다."
 				""", combinedReviews);
 
-		// 팀 스타일 요약 생성
 		String summary = chatModel.call(new Prompt(prompt)).getResult().getOutput().getText();
-		log.debug("[AI] 팀 스타일 요약 완료: {}", summary);
-
-		// 팀 스타일 임베딩 벡터 생성
-		float[] styleVector = embeddingModel.embed(summary);
-		log.debug("[AI] 임베딩 벡터 생성 완료 (Dimension: {})", styleVector.length);
-
-		// 팀 styleVector 업데이트
-		Team team = teamRepository.findById(teamId)
-				.orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
-
-		team.updateStyleVector(styleVector);
-
-		log.info("[AI] 팀 스타일 벡터 갱신 완료 - TeamId: {}", teamId);
+		log.debug("[AI] 팀 스타일 요약 완료 - TeamId: {}, summary: {}", teamId, summary);
+		return summary;
 	}
 }
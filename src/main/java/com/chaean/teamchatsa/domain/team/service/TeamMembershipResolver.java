@@ -0,0 +1,90 @@
+package com.chaean.teamchatsa.domain.team.service;
+
+import com.chaean.teamchatsa.domain.team.model.TeamRole;
+import com.chaean.teamchatsa.domain.team.repository.TeamMemberRepository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 사용자 팀 소속(teamId, role) 조회기
+ * HTTP 요청 안에서는 요청 속성에 결과를 보관하여 Aspect/서비스가 같은 조회를 반복하지 않도록 하고,
+ * 요청 밖(비동기, 스케줄러)에서는 매번 DB를 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamMembershipResolver {
+
+	private static final String ATTRIBUTE_NAME = TeamMembershipResolver.class.getName() + ".MEMBERSHIPS";
+
+	private final TeamMemberRepository teamMemberRepo;
+
+	/**
+	 * 사용자 팀 소속 조회 (요청당 사용자별 1회만 DB 조회, 미소속 결과도 보관)
+	 */
+	public Optional<TeamMembership> resolve(Long userId) {
+		Map<Long, Optional<TeamMembership>> memberships = requestMemberships();
+		if (memberships == null) {
+			return load(userId);
+		}
+		return memberships.computeIfAbsent(userId, this::load);
+	}
+
+	/** 사용자가 속한 팀 ID (미소속이면 null) */
+	public Long findTeamId(Long userId) {
+		return resolve(userId).map(TeamMembership::getTeamId).orElse(null);
+	}
+
+	/** 특정 팀에서의 사용자 역할 (해당 팀 소속이 아니면 empty) */
+	public Optional<TeamRole> findRole(Long teamId, Long userId) {
+		return resolve(userId)
+				.filter(membership -> membership.getTeamId().equals(teamId))
+				.map(TeamMembership::getRole);
+	}
+
+	public boolean hasTeam(Long userId) {
+		return resolve(userId).isPresent();
+	}
+
+	/**
+	 * 소속 변경(가입, 탈퇴, 팀 삭제) 후 현재 요청에 보관된 결과 제거
+	 */
+	public void evict(Long userId) {
+		Map<Long, Optional<TeamMembership>> memberships = requestMemberships();
+		if (memberships != null) {
+			memberships.remove(userId);
+		}
+	}
+
+	private Optional<TeamMembership> load(Long userId) {
+		return teamMemberRepo.findByUserId(userId)
+				.map(member -> new TeamMembership(member.getTeamId(), member.getRole()));
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Long, Optional<TeamMembership>> requestMemberships() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return null;
+		}
+
+		Object memberships = attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+		if (memberships == null) {
+			memberships = new HashMap<Long, Optional<TeamMembership>>();
+			attributes.setAttribute(ATTRIBUTE_NAME, memberships, RequestAttributes.SCOPE_REQUEST);
+		}
+		return (Map<Long, Optional<TeamMembership>>) memberships;
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class TeamMembership {
+		private final Long teamId;
+		private final TeamRole role;
+	}
+}
@@ -45,6 +45,7 @@ public class TeamService {
 	private final TeamJoinRequestRepository teamJoinRequestRepo;
 	private final UserRepository userRepo;
 	private final ApplicationEventPublisher eventPublisher;
+	private final TeamMembershipResolver membershipResolver;
 
 	/**
 	 * 팀 등록
@@ -53,7 +54,7 @@ public class TeamService {
 	@Loggable
 	public void registerTeam(Long userId, TeamCreateRequest req) {
 		// 이미 가입한 팀이 있는지 체크
-		if (teamMemberRepo.existsByUserId(userId)) {
+		if (membershipResolver.hasTeam(userId)) {
 			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 가입한 팀이 존재합니다.");
 		}
 		// 중복 팀명 체크
@@ -79,14 +80,23 @@ public class TeamService {
 		TeamMember teamMember = TeamMember.create(team.getId(), userId, TeamRole.LEADER);
 
 		teamMemberRepo.save(teamMember);
+		membershipResolver.evict(userId);
 	}
 
 	/**
 	 * 팀 목록 조회
+	 * cursor가 있으면 커서 기반(빈 값이면 첫 페이지), 없으면 기존 오프셋 페이징
 	 */
 	@Transactional(readOnly = true)
 	@Loggable
-	public SliceResponse<TeamListResponse> findTeamList(int page, int size, String teamName, Integer level) {
+	public SliceResponse<TeamListResponse> findTeamList(int page, int size, String cursor, String teamName, Integer level) {
+		if (cursor != null) {
+			if (teamName == null || teamName.isBlank()) {
+				return teamRepo.findTeamListWithCursor(cursor, size, level);
+			}
+			return teamRepo.findTeamListByNameWithCursor(cursor, size, teamName, level);
+		}
+
 		Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
 		if (teamName == null || teamName.isBlank()) {
@@ -112,13 +122,9 @@ public class TeamService {
 		Team team = teamRepo.findById(teamId)
 				.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "존재하지 않는 팀입니다."));
 
-		Long memberCount = teamMemberRepo.countByTeamId(teamId);
+		TeamRole userRole = membershipResolver.findRole(teamId, userId).orElse(null);
 
-		TeamMember teamMember = teamMemberRepo.findByTeamIdAndUserId(teamId, userId)
-				.orElse(null);
-		TeamRole userRole = teamMember != null ? teamMember.getRole() : null;
-
-		return TeamDetailResponse.fromEntity(team, userRole, memberCount);
+		return TeamDetailResponse.fromEntity(team, userRole);
 	}
 
 	/**
@@ -128,7 +134,7 @@ public class TeamService {
 	@Loggable
 	public void applyToTeam(Long teamId, Long userId, TeamJoinRequest req) {
 		// 이미 가입한 팀이 있는지 체크
-		boolean alreadyMember = teamMemberRepo.existsByUserId(userId);
+		boolean alreadyMember = membershipResolver.hasTeam(userId);
 		if (alreadyMember) {
 			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "이미 가입한 팀이 존재합니다.");
 		}
@@ -186,7 +192,29 @@ public class TeamService {
 		teamRepo.delete(team);
 		for (TeamMember member : members) {
 			teamMemberRepo.delete(member);
+			membershipResolver.evict(member.getUserId());
+		}
+	}
+
+	/**
+	 * 팀원 수 재집계 대상 팀 ID 조회 (afterId 이후 최대 batchSize개)
+	 */
+	@Transactional(readOnly = true)
+	public List<Long> findTeamIdsForReconcile(Long afterId, int batchSize) {
+		return teamRepo.findIdsAfter(afterId, batchSize);
+	}
+
+	/**
+	 * 팀원 수 재집계 (1배치 = 1트랜잭션)
+	 * 팀 행을 잠근 뒤 집계하여, 집계와 보정 사이에 커밋된 증감이 덮어써지지 않도록 하고 보정된 팀 수를 반환
+	 */
+	@Transactional
+	public int reconcileMemberCounts(List<Long> teamIds) {
+		List<Long> lockedTeamIds = teamRepo.lockByIdIn(teamIds);
+		if (lockedTeamIds.isEmpty()) {
+			return 0;
 		}
+		return teamRepo.reconcileMemberCounts(lockedTeamIds);
 	}
 
 	/**
@@ -217,6 +245,7 @@ public class TeamService {
 		}
 
 		teamMember.updateRole(newRole);
+		membershipResolver.evict(userId);
 	}
 
 	/**
@@ -231,10 +260,10 @@ public class TeamService {
 		}
 
 		// 팀장 또는 부팀장 권한 확인
-		TeamMember teamMember = teamMemberRepo.findByTeamIdAndUserId(teamId, userId)
+		TeamRole role = membershipResolver.findRole(teamId, userId)
 				.orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 팀의 멤버가 아닙니다."));
 
-		if (teamMember.getRole() != TeamRole.LEADER && teamMember.getRole() != TeamRole.CO_LEADER) {
+		if (role != TeamRole.LEADER && role != TeamRole.CO_LEADER) {
 			throw new BusinessException(ErrorCode.FORBIDDEN, "팀 가입 신청 목록을 조회할 권한이 없습니다.");
 		}
 
@@ -254,10 +283,10 @@ public class TeamService {
 				.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "존재하지 않는 팀입니다."));
 
 		// 팀장 또는 부팀장 권한 확인
-		TeamMember teamMember = teamMemberRepo.findByTeamIdAndUserId(teamId, userId)
+		TeamRole role = membershipResolver.findRole(teamId, userId)
 				.orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 팀의 멤버가 아닙니다."));
 
-		if (teamMember.getRole() != TeamRole.LEADER && teamMember.getRole() != TeamRole.CO_LEADER) {
+		if (role != TeamRole.LEADER && role != TeamRole.CO_LEADER) {
 			throw new BusinessException(ErrorCode.FORBIDDEN, "팀 가입 신청을 수락할 권한이 없습니다.");
 		}
 
@@ -283,6 +312,8 @@ public class TeamService {
 		TeamMember newMember = TeamMember.create(teamId, application.getUserId(), TeamRole.MEMBER);
 
 		teamMemberRepo.save(newMember);
+		teamRepo.updateMemberCount(teamId, 1);
+		membershipResolver.evict(application.getUserId());
 
 		// 해당 사용자의 다른 모든 PENDING 신청을 자동으로 거절 처리
 		List<TeamApplication> otherPendingApplications = teamJoinRequestRepo
@@ -313,10 +344,10 @@ public class TeamService {
 				.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "존재하지 않는 팀입니다."));
 
 		// 팀장 또는 부팀장 권한 확인
-		TeamMember teamMember = teamMemberRepo.findByTeamIdAndUserId(teamId, userId)
+		TeamRole role = membershipResolver.findRole(teamId, userId)
 				.orElseThrow(() -> new BusinessException(ErrorCode.FORBIDDEN, "해당 팀의 멤버가 아닙니다."));
 
-		if (teamMember.getRole() != TeamRole.LEADER && teamMember.getRole() != TeamRole.CO_LEADER) {
+		if (role != TeamRole.LEADER && role != TeamRole.CO_LEADER) {
 			throw new BusinessException(ErrorCode.FORBIDDEN, "팀 가입 신청을 거절할 권한이 없습니다.");
 		}
 
@@ -0,0 +1,152 @@
+package com.chaean.teamchatsa.domain.team.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스타일 벡터 재계산이 필요한 팀 목록 (Redis ZSET, score: 재계산 예정 시각)
+ * 구간은 첫 리뷰 시점부터 시작하며, 구간 안의 추가 리뷰는 예정 시각을 미루지 않고 한 번의 재계산으로 합쳐짐
+ * 가져간 팀은 제거하지 않고 임대(예정 시각을 임대 종료 시각으로 미룸)하며, 반영이 커밋된 뒤에만 제거
+ */
+@Component
+@Slf4j
+public class TeamStyleVectorDirtySet {
+
+	private static final String DIRTY_KEY = "team:style-vector:dirty";
+	// 처리 중 노드가 중단되면 이 시간이 지난 뒤 다른 노드가 다시 가져감
+	private static final long CLAIM_LEASE_MILLIS = 300_000L;
+
+	// 새 팀은 추가, 이미 있는 팀은 더 이른 예정 시각일 때만 갱신 (LT)
+	// 대기 중인 팀의 구간은 유지되고, 임대 중인 팀은 예정 시각이 당겨져 완료 처리 시 제거되지 않음
+	private static final RedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>("""
+			for i = 2, #ARGV do
+			    redis.call('ZADD', KEYS[1], 'LT', ARGV[1], ARGV[i])
+			end
+			return #ARGV - 1
+			""", Long.class);
+
+	// 예정 시각이 지난 팀을 임대하여 여러 노드가 같은 팀을 동시에 처리하지 않도록 함
+	private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+			local teamIds = redis.call('ZRANGEBYSCORE', KEYS[1], 0, ARGV[1], 'LIMIT', 0, ARGV[2])
+			for _, teamId in ipairs(teamIds) do
+			    redis.call('ZADD', KEYS[1], 'XX', ARGV[3], teamId)
+			end
+			return teamIds
+			""", List.class);
+
+	// 임대 이후 다시 표시되지 않은 팀만 제거
+	private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+			local removed = 0
+			for i = 2, #ARGV do
+			    local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+			    if score and tonumber(score) == tonumber(ARGV[1]) then
+			        removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+			    end
+			end
+			return removed
+			""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long debounceMillis;
+
+	public TeamStyleVectorDirtySet(
+			RedisTemplate<String, String> redisTemplate,
+			@Value("${app.team.style-vector-debounce-millis:60000}") long debounceMillis
+	) {
+		this.redisTemplate = redisTemplate;
+		this.debounceMillis = debounceMillis;
+	}
+
+	/**
+	 * 재계산 대상으로 표시 (대기 중인 팀이면 기존 예정 시각 유지)
+	 */
+	public void mark(Long teamId) {
+		redisTemplate.execute(MARK_SCRIPT, List.of(DIRTY_KEY), markArgs(List.of(teamId)));
+	}
+
+	/**
+	 * 재계산에 실패했거나 남은 리뷰가 있는 팀을 다음 구간에 다시 처리하도록 표시
+	 */
+	public void markAll(Collection<Long> teamIds) {
+		if (teamIds.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.execute(MARK_SCRIPT, List.of(DIRTY_KEY), markArgs(teamIds));
+		} catch (Exception e) {
+			// 재등록에 실패해도 완료 처리 전이면 임대가 끝난 뒤 다시 처리됨
+			log.error("팀 스타일 벡터 재계산 재등록 실패: teamIds={}", teamIds, e);
+		}
+	}
+
+	/**
+	 * 예정 시각이 지난 팀을 최대 limit개 임대
+	 */
+	public ClaimedTeams claimDue(int limit) {
+		long now = System.currentTimeMillis();
+		// 임대 종료 시각은 처리 중 다시 표시된 예정 시각(now + debounce)보다 항상 늦어야 함
+		long leaseUntil = now + debounceMillis + CLAIM_LEASE_MILLIS;
+		@SuppressWarnings("unchecked")
+		List<String> teamIds = redisTemplate.execute(
+				CLAIM_SCRIPT,
+				List.of(DIRTY_KEY),
+				String.valueOf(now),
+				String.valueOf(limit),
+				String.valueOf(leaseUntil)
+		);
+		if (teamIds == null) {
+			return new ClaimedTeams(List.of(), leaseUntil);
+		}
+		return new ClaimedTeams(
+				teamIds.stream()
+						.map(Long::parseLong)
+						.toList(),
+				leaseUntil
+		);
+	}
+
+	/**
+	 * 반영이 끝난 팀을 목록에서 제거 (임대 중 다시 표시된 팀은 남겨 다음 구간에 처리)
+	 */
+	public void complete(ClaimedTeams claimed) {
+		if (claimed.isEmpty()) {
+			return;
+		}
+		List<String> args = new ArrayList<>(claimed.getTeamIds().size() + 1);
+		args.add(String.valueOf(claimed.getLeaseUntil()));
+		claimed.getTeamIds().forEach(teamId -> args.add(String.valueOf(teamId)));
+		try {
+			redisTemplate.execute(COMPLETE_SCRIPT, List.of(DIRTY_KEY), args.toArray());
+		} catch (Exception e) {
+			// 제거에 실패하면 임대가 끝난 뒤 다시 처리되지만, 반영은 멱등이므로 중복 누적되지 않음
+			log.error("팀 스타일 벡터 재계산 완료 처리 실패: teamIds={}", claimed.getTeamIds(), e);
+		}
+	}
+
+	private Object[] markArgs(Collection<Long> teamIds) {
+		List<String> args = new ArrayList<>(teamIds.size() + 1);
+		args.add(String.valueOf(System.currentTimeMillis() + debounceMillis));
+		teamIds.forEach(teamId -> args.add(String.valueOf(teamId)));
+		return args.toArray();
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class ClaimedTeams {
+		private final List<Long> teamIds;
+		private final long leaseUntil;
+
+		public boolean isEmpty() {
+			return teamIds.isEmpty();
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.chaean.teamchatsa.domain.team.service;
+
+import com.chaean.teamchatsa.domain.team.model.Team;
+import com.chaean.teamchatsa.domain.team.model.TeamReview;
+import com.chaean.teamchatsa.domain.team.model.TeamStyleVector;
+import com.chaean.teamchatsa.domain.team.repository.TeamRepository;
+import com.chaean.teamchatsa.domain.team.repository.TeamReviewRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리뷰 임베딩을 팀 스타일 벡터에 누적 반영
+ * 팀 행을 잠근 뒤 아직 반영되지 않은 리뷰만 반영하므로, 같은 리뷰가 중복 처리되어도 두 번 누적되지 않음
+ */
+@Service
+@Slf4j
+public class TeamStyleVectorService {
+
+	private final TeamRepository teamRepository;
+	private final TeamReviewRepository teamReviewRepository;
+	private final Duration halfLife;
+
+	public TeamStyleVectorService(
+			TeamRepository teamRepository,
+			TeamReviewRepository teamReviewRepository,
+			@Value("${app.team.style-vector-half-life-days:90}") long halfLifeDays
+	) {
+		this.teamRepository = teamRepository;
+		this.teamReviewRepository = teamReviewRepository;
+		this.halfLife = Duration.ofDays(halfLifeDays);
+	}
+
+	/**
+	 * 팀의 리뷰 임베딩을 저장하고 스타일 벡터에 반영한 뒤, 반영한 리뷰 수를 반환
+	 */
+	@Transactional
+	public int applyReviewVectors(Long teamId, Map<Long, float[]> vectorsByReviewId) {
+		Team team = teamRepository.findByIdForUpdate(teamId).orElse(null);
+		if (team == null || team.isDeleted()) {
+			log.warn("[AI] 삭제된 팀의 리뷰 임베딩은 반영하지 않습니다. TeamId: {}", teamId);
+			return 0;
+		}
+
+		List<TeamReview> reviews = teamReviewRepository.findPendingEmbeddingByIdIn(vectorsByReviewId.keySet());
+		if (reviews.isEmpty()) {
+			return 0;
+		}
+
+		TeamStyleVector styleVector = TeamStyleVector.of(team);
+		for (TeamReview review : reviews) {
+			float[] reviewVector = vectorsByReviewId.get(review.getId());
+			review.updateContentVector(reviewVector);
+			styleVector = styleVector.add(reviewVector, review.getCreatedAt(), halfLife);
+		}
+
+		teamRepository.updateStyleVector(
+				teamId,
+				styleVector.getVector(),
+				styleVector.getWeight(),
+				styleVector.getUpdatedAt()
+		);
+		return reviews.size();
+	}
+}
@@ -74,7 +74,7 @@ public class AuthService {
 		redisService.deleteRefreshToken(userId);
 
 		// AT 및 RT 발급
-		String accessToken = jwtProvider.createAccessToken(userId);
+		String accessToken = jwtProvider.createAccessToken(userId, user.get().getRole());
 		String refreshToken = jwtProvider.createRefreshToken(userId);
 
 		// 사용자별 RT 매핑 저장
@@ -95,7 +95,7 @@ public class AuthService {
 		redisService.deleteRefreshToken(userId);
 
 		// 새로운 AT, RT 발급
-		String newAccessToken = jwtProvider.createAccessToken(user.getId());
+		String newAccessToken = jwtProvider.createAccessToken(user.getId(), user.getRole());
 		String newRefreshToken = jwtProvider.createRefreshToken(user.getId());
 
 		redisService.setRefreshToken(newRefreshToken, user.getId());
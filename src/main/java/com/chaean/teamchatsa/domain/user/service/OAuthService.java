@@ -57,7 +57,7 @@ public class OAuthService {
 		redisService.deleteRefreshToken(user.getId());
 
 		// RefreshToken 생성 및 Redis 저장
-		String accessToken = jwtProvider.createAccessToken(user.getId());
+		String accessToken = jwtProvider.createAccessToken(user.getId(), user.getRole());
 		String refreshToken = jwtProvider.createRefreshToken(user.getId());
 
 		redisService.setRefreshToken(refreshToken, user.getId());
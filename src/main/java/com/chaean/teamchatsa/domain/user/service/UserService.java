@@ -11,6 +11,7 @@ import com.chaean.teamchatsa.domain.user.repository.UserRepository;
 import com.chaean.teamchatsa.global.common.aop.annotation.Loggable;
 import com.chaean.teamchatsa.global.exception.BusinessException;
 import com.chaean.teamchatsa.global.exception.ErrorCode;
+import com.chaean.teamchatsa.global.jwt.PrincipalCache;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ public class UserService {
 	private final TeamMemberRepository teamMemberRepo;
 	private final OAuthAccountRepository authRepo;
 	private final PasswordEncoder encoder;
+	private final PrincipalCache principalCache;
 
 	@Transactional(readOnly = true)
 	@Loggable
@@ -58,6 +60,7 @@ public class UserService {
 				.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "유저 정보를 찾을 수 없습니다."));
 
 		user.update(req);
+		principalCache.evict(userId);
 	}
 
 	@Transactional(readOnly = true)
@@ -96,5 +99,6 @@ public class UserService {
 				.orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "유저 정보를 찾을 수 없습니다."));
 
 		userRepo.delete(user);
+		principalCache.evict(userId);
 	}
 }
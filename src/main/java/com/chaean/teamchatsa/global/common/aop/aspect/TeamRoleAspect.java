@@ -1,8 +1,8 @@
 package com.chaean.teamchatsa.global.common.aop.aspect;
 
-import com.chaean.teamchatsa.domain.team.model.TeamMember;
 import com.chaean.teamchatsa.domain.team.model.TeamRole;
-import com.chaean.teamchatsa.domain.team.repository.TeamMemberRepository;
+import com.chaean.teamchatsa.domain.team.service.TeamMembershipResolver;
+import com.chaean.teamchatsa.domain.team.service.TeamMembershipResolver.TeamMembership;
 import com.chaean.teamchatsa.global.common.aop.annotation.RequireTeamRole;
 import com.chaean.teamchatsa.global.exception.BusinessException;
 import com.chaean.teamchatsa.global.exception.ErrorCode;
@@ -24,7 +24,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class TeamRoleAspect {
 
-	private final TeamMemberRepository teamMemberRepository;
+	private final TeamMembershipResolver membershipResolver;
 
 	/**
 	 * @RequireTeamRole 어노테이션이 붙은 메서드 실행 전에 팀 역할을 검증
@@ -33,15 +33,15 @@ public class TeamRoleAspect {
 	public void checkTeamRole(RequireTeamRole requireTeamRole) {
 		Long userId = getUserIdFromSecurityContext();
 
-		// userId 기준으로 팀 멤버 조회 (전제: 한 유저는 하나의 팀만 가진다)
-		TeamMember teamMember = teamMemberRepository
-				.findByUserId(userId)
+		// userId 기준으로 팀 소속 조회 (전제: 한 유저는 하나의 팀만 가진다, 결과는 이후 서비스 호출에서 재사용)
+		TeamMembership membership = membershipResolver
+				.resolve(userId)
 				.orElseThrow(() -> {
 					log.warn("[권한 검증 실패] 팀에 소속되지 않은 사용자입니다. userId: {}", userId);
 					return new BusinessException(ErrorCode.NOT_TEAM_MEMBER, "팀에 소속되지 않은 사용자입니다.");
 				});
 
-		TeamRole userRole = teamMember.getRole();
+		TeamRole userRole = membership.getRole();
 		TeamRole[] requiredRoles = requireTeamRole.value();
 
 		boolean hasRequiredRole = Arrays.stream(requiredRoles)
@@ -1,5 +1,6 @@
 package com.chaean.teamchatsa.global.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,10 +20,22 @@ public class SliceResponse<T> {
 	private List<T> content;
 	private boolean last;
 
+	/** 커서 기반 페이징일 때 다음 페이지 요청에 사용할 커서 (마지막 페이지거나 오프셋 페이징이면 null) */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String nextCursor;
+
 	public static <T> SliceResponse<T> from(Slice<T> slice) {
 		return SliceResponse.<T>builder()
 				.content(slice.getContent())
 				.last(slice.isLast())
 				.build();
 	}
+
+	public static <T> SliceResponse<T> of(List<T> content, boolean last, String nextCursor) {
+		return SliceResponse.<T>builder()
+				.content(content)
+				.last(last)
+				.nextCursor(last ? null : nextCursor)
+				.build();
+	}
 }
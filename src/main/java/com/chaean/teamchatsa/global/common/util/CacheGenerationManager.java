@@ -0,0 +1,144 @@
+package com.chaean.teamchatsa.global.common.util;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 네임스페이스 세대(generation) 관리
+ * 캐시 키에 세대 번호를 포함시키고, 무효화 시 세대만 INCR 하여 기존 키는 TTL로 자연 만료되도록 처리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheGenerationManager implements MessageListener {
+
+	private static final String GENERATION_CHANNEL = "cache:generation";
+	// Pub/Sub 메시지를 놓친 노드도 이 주기 안에 Redis 값으로 따라잡음
+	private static final long REFRESH_INTERVAL_MILLIS = 1_000;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+
+	private final Map<String, LocalGeneration> generations = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void init() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(GENERATION_CHANNEL));
+	}
+
+	/**
+	 * 현재 세대 조회
+	 * 로컬 값이 갱신 주기 이내면 Redis 조회 없이 반환
+	 */
+	public long current(String generationKey) {
+		long now = System.currentTimeMillis();
+		LocalGeneration local = generations.get(generationKey);
+		if (local != null && now - local.fetchedAt < REFRESH_INTERVAL_MILLIS) {
+			return local.value;
+		}
+
+		long value = fetch(generationKey, local);
+		generations.put(generationKey, new LocalGeneration(value, now));
+		return value;
+	}
+
+	/**
+	 * 세대 증가 (O(1) 무효화)
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 증가시켜, 커밋 전 데이터가 새 세대 키로 캐싱되는 것을 방지
+	 */
+	public void increase(String... generationKeys) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					doIncrease(generationKeys);
+				}
+			});
+			return;
+		}
+		doIncrease(generationKeys);
+	}
+
+	/** 다른 노드에서 증가시킨 세대 수신 (한 줄에 "key=value") */
+	@Override
+	public void onMessage(Message message, byte[] channel) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		long now = System.currentTimeMillis();
+
+		for (String line : body.split("\n")) {
+			int delimiter = line.lastIndexOf('=');
+			if (delimiter < 0) {
+				continue;
+			}
+			String generationKey = line.substring(0, delimiter);
+			long value = Long.parseLong(line.substring(delimiter + 1));
+			applyGeneration(generationKey, value, now);
+		}
+	}
+
+	/** 여러 세대 키를 한 번의 파이프라인으로 증가시키고, 결과를 하나의 메시지로 전파 */
+	private void doIncrease(String... generationKeys) {
+		try {
+			List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				for (String generationKey : generationKeys) {
+					connection.stringCommands().incr(generationKey.getBytes(StandardCharsets.UTF_8));
+				}
+				return null;
+			});
+
+			long now = System.currentTimeMillis();
+			StringBuilder message = new StringBuilder();
+			for (int i = 0; i < generationKeys.length; i++) {
+				long value = ((Number) results.get(i)).longValue();
+				applyGeneration(generationKeys[i], value, now);
+				message.append(generationKeys[i]).append("=").append(value).append("\n");
+			}
+
+			redisTemplate.convertAndSend(GENERATION_CHANNEL, message.toString());
+			log.info("캐시 세대 증가: keys={}", Arrays.toString(generationKeys));
+		} catch (Exception e) {
+			log.error("캐시 세대 증가 실패: keys={}", Arrays.toString(generationKeys), e);
+		}
+	}
+
+	/** 로컬 세대는 증가 방향으로만 반영 (늦게 도착한 메시지 무시) */
+	private void applyGeneration(String generationKey, long value, long now) {
+		generations.compute(generationKey, (key, old) ->
+				old == null || old.value < value ? new LocalGeneration(value, now) : old);
+	}
+
+	private long fetch(String generationKey, LocalGeneration local) {
+		try {
+			String value = redisTemplate.opsForValue().get(generationKey);
+			return value == null ? 0L : Long.parseLong(value);
+		} catch (Exception e) {
+			log.error("캐시 세대 조회 실패: key={}", generationKey, e);
+			return local == null ? 0L : local.value;
+		}
+	}
+
+	private static final class LocalGeneration {
+		private final long value;
+		private final long fetchedAt;
+
+		private LocalGeneration(long value, long fetchedAt) {
+			this.value = value;
+			this.fetchedAt = fetchedAt;
+		}
+	}
+}
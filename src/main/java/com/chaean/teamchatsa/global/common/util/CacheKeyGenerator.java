@@ -1,21 +1,33 @@
 package com.chaean.teamchatsa.global.common.util;
 
 import com.chaean.teamchatsa.domain.match.dto.request.MatchPostSearchRequest;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /** Redis 캐시 키 생성 Class */
 @Component
+@RequiredArgsConstructor
 public class CacheKeyGenerator {
 
 	private static final String MATCH_LIST_PREFIX = "match:list:";
+	private static final String MATCH_LIST_GENERATION_PREFIX = "cache:gen:match:list:";
+	private static final String UNFILTERED_SCOPE = "all";
+	private static final String MATCH_RECOMMEND_PREFIX = "match:recommend:";
+	private static final String MATCH_RECOMMEND_GENERATION_PREFIX = "cache:gen:match:recommend:";
+	private static final String TEAM_SCOPE_PREFIX = "team:";
+
+	private final CacheGenerationManager generationManager;
 
 	/**
 	 * 매치 목록 검색 캐시 키 생성
 	 * 자주 조회될 것으로 예상되는 데이터들만 캐싱
+	 * 키에 필터 조합(스코프)별 세대 번호를 포함해 세대가 바뀌면 이전 키는 더 이상 조회되지 않음
 	 */
 	public String generateMatchListKey(MatchPostSearchRequest req) {
 		StringBuilder key = new StringBuilder(MATCH_LIST_PREFIX);
 
+		String scope = resolveScope(req.getHeadCount(), req.getRegion());
+		key.append("v").append(generationManager.current(MATCH_LIST_GENERATION_PREFIX + scope)).append(":");
 		key.append(req.getPage()).append(":").append(req.getSize());
 
 		// headCount 필터 (있으면 추가)
@@ -73,8 +85,67 @@ public class CacheKeyGenerator {
 		return false;
 	}
 
-	/** 매치 목록 캐시 전체 무효화 패턴 */
-	public String getMatchListInvalidationPattern() {
-		return MATCH_LIST_PREFIX + "*";
+	/**
+	 * 게시물 변경 시 해당 게시물이 노출될 수 있는 캐시만 무효화 (세대 증가, 이전 세대 키는 TTL로 만료)
+	 * 영향 범위: 필터 없음, headCount, region, headCount + region
+	 * 다른 지역/인원 조합의 캐시는 그대로 유지
+	 */
+	public void increaseMatchListGeneration(String region, Integer headCount) {
+		generationManager.increase(
+				MATCH_LIST_GENERATION_PREFIX + resolveScope(null, null),
+				MATCH_LIST_GENERATION_PREFIX + resolveScope(headCount, null),
+				MATCH_LIST_GENERATION_PREFIX + resolveScope(null, region),
+				MATCH_LIST_GENERATION_PREFIX + resolveScope(headCount, region)
+		);
+	}
+
+	/**
+	 * 매치 추천 결과 캐시 키 생성 (팀, 정규화된 검색어)
+	 * 후보 매치 마감/삭제 세대와 요청 팀 세대(레벨/승률 변경)를 모두 포함하며, 검색어는 해시로 변환
+	 */
+	public String generateMatchRecommendationKey(Long myTeamId, String normalizedQuery) {
+		long postGeneration = generationManager.current(MATCH_RECOMMEND_GENERATION_PREFIX + UNFILTERED_SCOPE);
+		long teamGeneration = generationManager.current(MATCH_RECOMMEND_GENERATION_PREFIX + TEAM_SCOPE_PREFIX + myTeamId);
+
+		return MATCH_RECOMMEND_PREFIX + "v" + postGeneration + "." + teamGeneration
+				+ ":" + myTeamId + ":" + QueryKeyUtils.sha256(normalizedQuery);
+	}
+
+	/**
+	 * 매치 게시물 마감/삭제 시 추천 결과 캐시 무효화
+	 * 게시물은 어느 팀의 추천 결과에도 포함될 수 있으므로 전체 세대를 증가 (결과 TTL이 짧아 영향이 작음)
+	 */
+	public void increaseMatchRecommendationGeneration() {
+		generationManager.increase(MATCH_RECOMMEND_GENERATION_PREFIX + UNFILTERED_SCOPE);
+	}
+
+	/**
+	 * 팀 레벨/승률 변경 시 해당 팀의 추천 결과 캐시만 무효화
+	 */
+	public void increaseMatchRecommendationTeamGeneration(Long teamId) {
+		generationManager.increase(MATCH_RECOMMEND_GENERATION_PREFIX + TEAM_SCOPE_PREFIX + teamId);
+	}
+
+	/**
+	 * 필터 차원 → 캐시 스코프 역인덱스 키
+	 * 예) 필터 없음 → all, headCount=11 → hc11, region=서울 → rg서울, 둘 다 → hc11:rg서울
+	 */
+	private String resolveScope(Integer headCount, String region) {
+		boolean hasRegion = region != null && !region.isBlank();
+		if (headCount == null && !hasRegion) {
+			return UNFILTERED_SCOPE;
+		}
+
+		StringBuilder scope = new StringBuilder();
+		if (headCount != null) {
+			scope.append("hc").append(headCount);
+		}
+		if (hasRegion) {
+			if (!scope.isEmpty()) {
+				scope.append(":");
+			}
+			scope.append("rg").append(region);
+		}
+		return scope.toString();
 	}
 }
@@ -0,0 +1,46 @@
+package com.chaean.teamchatsa.global.common.util;
+
+import com.chaean.teamchatsa.global.exception.BusinessException;
+import com.chaean.teamchatsa.global.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이징용 불투명(opaque) 커서 인코더/디코더
+ * 정렬 키 값들을 구분자로 이어 Base64URL로 인코딩
+ */
+public final class CursorCodec {
+
+	private static final String DELIMITER = "|";
+
+	private CursorCodec() {
+	}
+
+	/** 정렬 키 값들을 커서 문자열로 인코딩 */
+	public static String encode(Object... values) {
+		String raw = Arrays.stream(values)
+				.map(String::valueOf)
+				.collect(Collectors.joining(DELIMITER));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 문자열을 정렬 키 값으로 디코딩
+	 * 형식이 맞지 않으면 INVALID_INPUT_VALUE 예외
+	 */
+	public static <T> T decode(String cursor, int expectedParts, Function<String[], T> mapper) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length != expectedParts) {
+				throw new IllegalArgumentException("커서 구성 요소 수 불일치: " + parts.length);
+			}
+			return mapper.apply(parts);
+		} catch (RuntimeException e) {
+			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+		}
+	}
+}
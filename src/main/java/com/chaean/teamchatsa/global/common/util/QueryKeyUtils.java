@@ -0,0 +1,33 @@
+package com.chaean.teamchatsa.global.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * 검색어 기반 캐시 키 유틸
+ * 추천 결과/검색 의도/임베딩 캐시가 같은 정규화와 해시를 사용하도록 한 곳에 둠
+ */
+public final class QueryKeyUtils {
+
+	private QueryKeyUtils() {
+	}
+
+	/** 공백/대소문자 차이만 있는 검색어는 같은 캐시 항목 사용 */
+	public static String normalize(String query) {
+		return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+	}
+
+	/** 길이가 제각각인 검색어를 고정 길이 키로 변환 (SHA-256, Base64URL) */
+	public static String sha256(String value) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+					.digest(value.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+}
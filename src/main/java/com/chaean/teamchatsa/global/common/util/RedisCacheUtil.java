@@ -3,7 +3,6 @@ package com.chaean.teamchatsa.global.common.util;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.Duration;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -75,17 +74,6 @@ public class RedisCacheUtil {
 		log.debug("Cache DELETE: key={}", key);
 	}
 
-	/**
-	 * 패턴 매칭으로 캐시 삭제
-	 */
-	public void deleteByPattern(String pattern) {
-		Set<String> keys = redisTemplate.keys(pattern);
-		if (keys != null && !keys.isEmpty()) {
-			redisTemplate.delete(keys);
-			log.info("Cache DELETE by pattern: pattern={}, count={}", pattern, keys.size());
-		}
-	}
-
 	/**
 	 * 캐시 존재 여부 확인
 	 */
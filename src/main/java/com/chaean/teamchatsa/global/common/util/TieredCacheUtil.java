@@ -0,0 +1,75 @@
+package com.chaean.teamchatsa.global.common.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2단계 캐싱 유틸리티 (L1: 노드 로컬 Caffeine, L2: Redis)
+ * L1에는 역직렬화된 객체를 그대로 보관하고, 무효화는 키에 포함된 세대 번호 변경으로 처리(CacheGenerationManager)
+ * 이전 세대 키는 더 이상 조회되지 않으므로 개별 삭제 없이 TTL로 만료
+ */
+@Component
+@RequiredArgsConstructor
+public class TieredCacheUtil {
+
+	private static final String METRIC_NAME = "cache.tiered.requests";
+	private static final long LOCAL_MAX_SIZE = 1_000;
+	// 이전 세대 키가 로컬 메모리를 오래 차지하지 않도록 짧게 유지
+	private static final Duration LOCAL_TTL = Duration.ofSeconds(30);
+
+	private final RedisCacheUtil redisCacheUtil;
+	private final MeterRegistry meterRegistry;
+
+	private final Cache<String, Object> localCache = Caffeine.newBuilder()
+			.maximumSize(LOCAL_MAX_SIZE)
+			.expireAfterWrite(LOCAL_TTL)
+			.recordStats()
+			.build();
+
+	@PostConstruct
+	void init() {
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, "tiered-local");
+	}
+
+	/**
+	 * 캐시 조회 (L1 → L2 순서)
+	 * L2 적중 시 역직렬화된 결과를 L1에 적재
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T get(String key, TypeReference<T> typeReference) {
+		Object local = localCache.getIfPresent(key);
+		if (local != null) {
+			record("l1", "hit");
+			return (T) local;
+		}
+		record("l1", "miss");
+
+		T remote = redisCacheUtil.get(key, typeReference);
+		if (remote == null) {
+			record("l2", "miss");
+			return null;
+		}
+		record("l2", "hit");
+		localCache.put(key, remote);
+		return remote;
+	}
+
+	/**
+	 * 캐시 저장 (L1, L2 동시 저장)
+	 */
+	public <T> void set(String key, T value, Duration ttl) {
+		redisCacheUtil.set(key, value, ttl);
+		localCache.put(key, value);
+	}
+
+	private void record(String tier, String result) {
+		meterRegistry.counter(METRIC_NAME, "tier", tier, "result", result).increment();
+	}
+}
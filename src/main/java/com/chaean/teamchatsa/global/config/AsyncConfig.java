@@ -1,32 +1,81 @@
 package com.chaean.teamchatsa.global.config;
 
 import com.chaean.teamchatsa.infra.slack.SlackAlertService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+/**
+ * 비동기 실행기 설정
+ * 작업 성격별로 실행기를 분리하여 느린 AI 호출이 알림 처리나 Slack 알림을 지연시키지 않도록 하고,
+ * 실행기마다 스레드/큐 상태, 거절 횟수, 대기/실행 시간을 Micrometer(Prometheus)로 노출
+ * 가상 스레드 모드(spring.threads.virtual.enabled, Java 21)에서는 풀 스레드를 가상 스레드로 생성하며,
+ * 풀 크기는 스레드 비용이 아닌 작업별 동시 실행 한도(DB 커넥션, OpenAI 호출 수)로 유지
+ */
 @Configuration
 @EnableAsync
 @RequiredArgsConstructor
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
 
+	public static final String DEFAULT_EXECUTOR = "asyncExecutor";
+	public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+	public static final String AI_EXECUTOR = "aiExecutor";
+	public static final String ALERT_EXECUTOR = "alertExecutor";
+
 	private final SlackAlertService slackAlertService;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreads;
+
+	/** 실행기를 지정하지 않은 @Async 작업용 (큐가 가득 차면 호출 스레드에서 실행) */
+	@Bean(name = DEFAULT_EXECUTOR)
+	public ThreadPoolTaskExecutor asyncExecutor() {
+		return createExecutor("async", 5, 10, 100, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/** 알림 저장/전송 (짧은 DB 작업, 큐가 가득 차면 호출 스레드에서 실행하여 유입 속도를 늦춤) */
+	@Bean(name = NOTIFICATION_EXECUTOR)
+	public ThreadPoolTaskExecutor notificationExecutor() {
+		return createExecutor("notification", 4, 8, 200, new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * AI(OpenAI) 호출 (수 초 단위 외부 호출)
+	 * 호출 스레드가 LLM 응답을 기다리지 않도록 큐가 가득 차면 거절하고, 호출자가 재시도를 결정
+	 */
+	@Bean(name = AI_EXECUTOR)
+	public ThreadPoolTaskExecutor aiExecutor() {
+		return createExecutor("ai", 2, 4, 50, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/** Slack 알림 (유실 허용, 큐가 가득 차면 가장 오래된 알림을 버림) */
+	@Bean(name = ALERT_EXECUTOR)
+	public ThreadPoolTaskExecutor alertExecutor() {
+		return createExecutor("alert", 1, 2, 100, new ThreadPoolExecutor.DiscardOldestPolicy());
+	}
 
 	@Override
 	public Executor getAsyncExecutor() {
-		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(5);
-		executor.setMaxPoolSize(10);
-		executor.setQueueCapacity(100);
-		executor.setThreadNamePrefix("async-");
-		executor.initialize();
-		return executor;
+		return asyncExecutor();
 	}
 
 	/** 비동기 메서드 예외 처리 */
@@ -44,4 +93,65 @@ public class AsyncConfig implements AsyncConfigurer {
 			);
 		};
 	}
+
+	private ThreadPoolTaskExecutor createExecutor(
+			String name,
+			int corePoolSize,
+			int maxPoolSize,
+			int queueCapacity,
+			RejectedExecutionHandler rejectionPolicy
+	) {
+		Counter rejected = Counter.builder("executor.rejected")
+				.description("실행기 큐 초과로 거절된 작업 수 (거절 정책 적용 전)")
+				.tag("name", name)
+				.register(meterRegistry);
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(corePoolSize);
+		executor.setMaxPoolSize(maxPoolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix(name + "-");
+		if (virtualThreads) {
+			executor.setThreadFactory(new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory());
+		}
+		executor.setRejectedExecutionHandler((task, pool) -> {
+			rejected.increment();
+			log.warn("비동기 작업 거절: executor={}, active={}, queued={}",
+					name, pool.getActiveCount(), pool.getQueue().size());
+			rejectionPolicy.rejectedExecution(task, pool);
+		});
+		executor.setTaskDecorator(timingDecorator(name));
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+
+		// 풀 크기, 활성 스레드, 큐 대기/잔여 용량, 완료 작업 수 게이지 등록
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+		return executor;
+	}
+
+	/** 큐 대기 시간과 실행 시간 측정 */
+	private TaskDecorator timingDecorator(String name) {
+		Timer queued = Timer.builder("executor.task.queued")
+				.description("작업 제출부터 실행 시작까지 대기 시간")
+				.tag("name", name)
+				.register(meterRegistry);
+		Timer duration = Timer.builder("executor.task.duration")
+				.description("작업 실행 시간")
+				.tag("name", name)
+				.register(meterRegistry);
+
+		return task -> {
+			long submittedAt = System.nanoTime();
+			return () -> {
+				long startedAt = System.nanoTime();
+				queued.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+				try {
+					task.run();
+				} finally {
+					duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+				}
+			};
+		};
+	}
 }
@@ -3,6 +3,7 @@ package com.chaean.teamchatsa.global.config;
 import com.chaean.teamchatsa.global.jwt.JwtAuthFilter;
 import com.chaean.teamchatsa.global.oauth.OAuth2FailureHandler;
 import com.chaean.teamchatsa.global.oauth.OAuth2SuccessHandler;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -35,6 +36,8 @@ public class SecurityConfig {
 				.sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.exceptionHandling(ex -> ex.authenticationEntryPoint(authEntryPoint))
 				.authorizeHttpRequests(auth -> auth
+						// SSE 등 비동기 디스패치는 최초 요청에서 이미 인증됨
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 						.requestMatchers(
 								"/api/v1/auth/signup",
 								"/api/v1/auth/login",
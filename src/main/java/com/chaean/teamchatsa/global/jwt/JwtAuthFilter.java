@@ -1,10 +1,10 @@
 package com.chaean.teamchatsa.global.jwt;
 
-import com.chaean.teamchatsa.domain.user.model.User;
-import com.chaean.teamchatsa.domain.user.repository.UserRepository;
+import com.chaean.teamchatsa.domain.user.model.UserRole;
 import com.chaean.teamchatsa.global.common.dto.ApiResponse;
 import com.chaean.teamchatsa.global.exception.BusinessException;
 import com.chaean.teamchatsa.global.exception.ErrorCode;
+import com.chaean.teamchatsa.global.jwt.JwtProvider.VerifiedToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -13,9 +13,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -30,7 +30,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
 	private final JwtProvider jwtProvider;
-	private final UserRepository userRepo;
+	private final PrincipalCache principalCache;
+
+	// true면 토큰의 서명된 role 클레임을 그대로 사용 (권한 변경/탈퇴는 토큰 만료 시점에 반영됨)
+	@Value("${app.jwt.trust-role-claim:false}")
+	private boolean trustRoleClaim;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain filterChain)
@@ -41,14 +45,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 			String token = header.substring(7);
 
 			try {
-				Long userId = jwtProvider.parseUserId(token);
-				Optional<User> user = userRepo.findById(userId);
-				if (user.isEmpty()) {
+				VerifiedToken verified = jwtProvider.verify(token);
+				Long userId = verified.getUserId();
+				UserRole role = resolveRole(userId, verified);
+				if (role == null) {
 					throw new BusinessException(ErrorCode.USER_NOT_FOUND);
 				}
 				UsernamePasswordAuthenticationToken auth
-						= new UsernamePasswordAuthenticationToken(user.get().getId(), null,
-						List.of(new SimpleGrantedAuthority(user.get().getRole().name())));
+						= new UsernamePasswordAuthenticationToken(userId, null,
+						List.of(new SimpleGrantedAuthority(role.name())));
 				SecurityContextHolder.getContext().setAuthentication(auth);
 			} catch (JwtException e) {
 				log.error("유효하지 않은 토큰입니다. {}", e.getMessage(), e);
@@ -76,4 +81,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
 		filterChain.doFilter(req, res);
 	}
+
+	/** 신뢰 모드면 토큰 클레임, 아니면 로컬 캐시(미스 시 DB)에서 권한 조회 */
+	private UserRole resolveRole(Long userId, VerifiedToken verified) {
+		String roleClaim = verified.getRole();
+		if (trustRoleClaim && roleClaim != null) {
+			return UserRole.valueOf(roleClaim);
+		}
+		return principalCache.getRole(userId);
+	}
 }
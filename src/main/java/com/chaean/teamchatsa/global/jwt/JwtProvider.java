@@ -1,34 +1,76 @@
 package com.chaean.teamchatsa.global.jwt;
 
+import com.chaean.teamchatsa.domain.user.model.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.sql.Date;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import javax.crypto.SecretKey;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class JwtProvider {
 
-	@Value("${app.jwt.secret}")
-	private String secret;
-	@Value("${app.jwt.access-minutes}")
-	private long accessMinutes;
-	@Value("${app.jwt.refresh-days}")
-	private long refreshDays;
+	public static final String ROLE_CLAIM = "role";
 
-	public String createAccessToken(Long userId) {
+	private static final long VERIFIED_CACHE_MAX_SIZE = 10_000;
+	// 토큰 만료가 더 길어도 검증 결과는 이 시간까지만 재사용
+	private static final Duration VERIFIED_CACHE_MAX_TTL = Duration.ofMinutes(5);
+
+	private final long accessMinutes;
+	private final long refreshDays;
+
+	// 키와 파서는 불변/스레드 안전하므로 기동 시 한 번만 생성
+	private final SecretKey key;
+	private final JwtParser parser;
+
+	/**
+	 * 검증을 마친 Access Token 캐시 (키: 토큰 문자열, 만료: 토큰 exp와 최대 TTL 중 이른 시점)
+	 * String은 해시를 한 번만 계산해 보관하므로 조회 비용은 해시 조회 + 문자열 비교이며, 값은 불변 객체라 요청 간 공유 가능
+	 */
+	private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+			.maximumSize(VERIFIED_CACHE_MAX_SIZE)
+			.expireAfter(new VerifiedTokenExpiry())
+			.build();
+
+	public JwtProvider(
+			@Value("${app.jwt.secret}") String secret,
+			@Value("${app.jwt.access-minutes}") long accessMinutes,
+			@Value("${app.jwt.refresh-days}") long refreshDays
+	) {
+		this.accessMinutes = accessMinutes;
+		this.refreshDays = refreshDays;
+		this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+		this.parser = Jwts.parserBuilder()
+				.setSigningKey(key)
+				.build();
+	}
+
+	/**
+	 * Access Token 생성
+	 * 서명된 role 클레임을 포함하여, 신뢰 모드(app.jwt.trust-role-claim)에서는 DB 조회 없이 인증 가능
+	 */
+	public String createAccessToken(Long userId, UserRole role) {
 		Instant now = Instant.now();
 
 		return Jwts.builder()
 				.setSubject(userId.toString())
 				.setIssuedAt(Date.from(now))
 				.setExpiration(Date.from(now.plus(accessMinutes, ChronoUnit.MINUTES)))
-				.signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+				.claim(ROLE_CLAIM, role.name())
+				.signWith(key, SignatureAlgorithm.HS256)
 				.compact();
 	}
 
@@ -40,17 +82,76 @@ public class JwtProvider {
 				.setIssuedAt(Date.from(now))
 				.setExpiration(Date.from(now.plus(refreshDays, ChronoUnit.DAYS)))
 				.claim("type", "refresh")
-				.signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+				.signWith(key, SignatureAlgorithm.HS256)
 				.compact();
 	}
 
 	public Long parseUserId(String token) {
-		Claims body = Jwts.parserBuilder()
-				.setSigningKey(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
+		return Long.parseLong(parseClaims(token).getSubject());
+	}
+
+	/**
+	 * Access Token 검증 (요청 인증용)
+	 * 같은 토큰의 반복 요청은 캐시된 검증 결과를 사용하여 HMAC 검증과 Base64/JSON 디코딩을 생략
+	 * 검증에 실패한 토큰은 캐싱하지 않음
+	 */
+	public VerifiedToken verify(String token) {
+		VerifiedToken cached = verifiedTokens.getIfPresent(token);
+		if (cached != null) {
+			return cached;
+		}
+
+		VerifiedToken verified = VerifiedToken.of(parseClaims(token));
+		verifiedTokens.put(token, verified);
+		return verified;
+	}
+
+	/**
+	 * 캐시 없이 토큰 검증 및 클레임 조회
+	 */
+	public Claims parseClaims(String token) {
+		return parser.parseClaimsJws(token).getBody();
+	}
+
+	/** 검증된 토큰에서 인증에 필요한 값만 담은 불변 객체 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class VerifiedToken {
+		private final Long userId;
+		// 서명된 role 클레임 원문 (없으면 null)
+		private final String role;
+		private final Instant expiresAt;
+
+		static VerifiedToken of(Claims claims) {
+			java.util.Date expiration = claims.getExpiration();
+			return new VerifiedToken(
+					Long.parseLong(claims.getSubject()),
+					claims.get(ROLE_CLAIM, String.class),
+					expiration == null ? null : expiration.toInstant()
+			);
+		}
+	}
+
+	private static final class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+		@Override
+		public long expireAfterCreate(String token, VerifiedToken verified, long currentTime) {
+			long maxTtl = VERIFIED_CACHE_MAX_TTL.toNanos();
+			if (verified.getExpiresAt() == null) {
+				return maxTtl;
+			}
+			long untilExpiry = Duration.between(Instant.now(), verified.getExpiresAt()).toNanos();
+			return Math.max(0, Math.min(untilExpiry, maxTtl));
+		}
+
+		@Override
+		public long expireAfterUpdate(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+			return expireAfterCreate(token, verified, currentTime);
+		}
 
-		return Long.parseLong(body.getSubject());
+		@Override
+		public long expireAfterRead(String token, VerifiedToken verified, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
 	}
 }
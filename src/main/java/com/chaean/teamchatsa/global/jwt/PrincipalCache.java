@@ -0,0 +1,103 @@
+package com.chaean.teamchatsa.global.jwt;
+
+import com.chaean.teamchatsa.domain.user.model.User;
+import com.chaean.teamchatsa.domain.user.model.UserRole;
+import com.chaean.teamchatsa.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JWT 인증 주체(userId → 권한) 로컬 캐시
+ * 요청마다 users 테이블을 조회하지 않도록 짧은 TTL로 보관하고, 회원 정보 변경/탈퇴 시 Redis Pub/Sub으로 모든 노드에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PrincipalCache implements MessageListener {
+
+	private static final String INVALIDATION_CHANNEL = "principal:invalidation";
+	private static final long MAX_SIZE = 10_000;
+	// 무효화 메시지를 놓친 노드도 이 시간 안에 DB 값으로 복구
+	private static final Duration TTL = Duration.ofSeconds(60);
+
+	private final UserRepository userRepo;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final MeterRegistry meterRegistry;
+
+	private final Cache<Long, UserRole> roles = Caffeine.newBuilder()
+			.maximumSize(MAX_SIZE)
+			.expireAfterWrite(TTL)
+			.recordStats()
+			.build();
+
+	@PostConstruct
+	void init() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+		CaffeineCacheMetrics.monitor(meterRegistry, roles, "jwt-principal");
+	}
+
+	/**
+	 * 사용자 권한 조회
+	 * 캐시 미스 시에만 DB를 조회하며, 존재하지 않는 사용자는 캐싱하지 않고 null 반환
+	 */
+	public UserRole getRole(Long userId) {
+		// 잠금 밖에서 조회 후 put하면 조회와 적재 사이에 무효화가 끼어들 때 변경 전 권한이 TTL 동안 남으므로
+		// get(key, loader)로 조회와 적재를 원자적으로 처리 (같은 키의 동시 미스도 DB 조회 1회)
+		return roles.get(userId, key -> userRepo.findById(key)
+				.map(User::getRole)
+				.orElse(null));
+	}
+
+	/**
+	 * 캐시 제거
+	 * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 값이 다시 적재되는 것을 방지
+	 */
+	public void evict(Long userId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					doEvict(userId);
+				}
+			});
+			return;
+		}
+		doEvict(userId);
+	}
+
+	/** 다른 노드에서 발행한 제거 메시지 수신 */
+	@Override
+	public void onMessage(Message message, byte[] channel) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			roles.invalidate(Long.parseLong(body));
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 인증 주체 무효화 메시지: {}", body);
+		}
+	}
+
+	private void doEvict(Long userId) {
+		roles.invalidate(userId);
+		try {
+			redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId.toString());
+		} catch (Exception e) {
+			log.error("인증 주체 캐시 무효화 전파 실패: userId={}", userId, e);
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.chaean.teamchatsa.global.outbox;
+
+/**
+ * 아웃박스를 통해 전달되는 도메인 이벤트 표식
+ * 발행 시 같은 트랜잭션에서 @OutboxEventListener 핸들러별로 아웃박스에 저장되고, 커밋 후 릴레이가 전달
+ * 페이로드는 JSON으로 저장되므로 Jackson으로 역직렬화할 수 있어야 함
+ */
+public interface DomainEvent {
+
+}
@@ -0,0 +1,76 @@
+package com.chaean.teamchatsa.global.outbox;
+
+import com.chaean.teamchatsa.global.common.model.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_event")
+public class OutboxEvent extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@NotNull
+	@Column(name = "event_type", nullable = false, length = 100)
+	private String eventType;
+
+	@NotNull
+	@Column(name = "handler", nullable = false, length = 150)
+	private String handler;
+
+	@NotNull
+	@Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@NotNull
+	@Builder.Default
+	@Enumerated(EnumType.STRING)
+	@Column(name = "status", nullable = false, length = 20)
+	private OutboxStatus status = OutboxStatus.PENDING;
+
+	@NotNull
+	@Builder.Default
+	@Column(name = "attempts", nullable = false)
+	private Integer attempts = 0;
+
+	@NotNull
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "last_error", length = 1000)
+	private String lastError;
+
+	@Column(name = "processed_at")
+	private LocalDateTime processedAt;
+
+	/**
+	 * 처리 대기 이벤트 생성을 위한 정적 팩토리 메서드
+	 */
+	public static OutboxEvent pending(String eventType, String handler, String payload, LocalDateTime now) {
+		return OutboxEvent.builder()
+				.eventType(eventType)
+				.handler(handler)
+				.payload(payload)
+				.nextAttemptAt(now)
+				.build();
+	}
+}
@@ -0,0 +1,23 @@
+package com.chaean.teamchatsa.global.outbox;
+
+import com.chaean.teamchatsa.global.config.AsyncConfig;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 아웃박스 이벤트 핸들러 메서드 지정 어노테이션
+ *
+ * DomainEvent 타입 파라미터 하나를 받는 메서드에 붙이며, 핸들러마다 재시도/데드레터가 따로 관리됩니다.
+ * value는 아웃박스에 저장되는 핸들러 이름으로, 저장된 이벤트와 연결되므로 변경하지 않아야 합니다.
+ * executor는 핸들러를 실행할 실행기 빈 이름입니다. (AsyncConfig 참고)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OutboxEventListener {
+
+	String value();
+
+	String executor() default AsyncConfig.DEFAULT_EXECUTOR;
+}
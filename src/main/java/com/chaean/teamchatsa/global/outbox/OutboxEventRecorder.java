@@ -0,0 +1,46 @@
+package com.chaean.teamchatsa.global.outbox;
+
+import com.chaean.teamchatsa.global.outbox.OutboxHandlerRegistry.OutboxHandler;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트 아웃박스 기록기
+ * 이벤트 발행 시점에 동기적으로 실행되어 발행한 트랜잭션과 함께 커밋/롤백됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxEventRecorder {
+
+	private final OutboxHandlerRegistry handlerRegistry;
+	private final OutboxEventRepository outboxEventRepo;
+	private final ObjectMapper objectMapper;
+
+	@EventListener
+	public void record(DomainEvent event) {
+		List<OutboxHandler> handlers = handlerRegistry.getHandlers(event.getClass());
+		if (handlers.isEmpty()) {
+			log.warn("아웃박스 핸들러가 없는 이벤트: eventType={}", event.getClass().getSimpleName());
+			return;
+		}
+
+		String payload;
+		try {
+			payload = objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("도메인 이벤트 직렬화에 실패했습니다: " + event.getClass().getSimpleName(), e);
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		outboxEventRepo.saveAll(handlers.stream()
+				.map(handler -> OutboxEvent.pending(event.getClass().getSimpleName(), handler.getName(), payload, now))
+				.toList());
+	}
+}
@@ -0,0 +1,97 @@
+package com.chaean.teamchatsa.global.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 처리 가능한 이벤트 ID 조회 및 행 잠금
+	 * 다른 노드가 잠근 행은 건너뛰므로 여러 노드가 서로 다른 이벤트를 나눠 처리
+	 */
+	@Query(value = """
+			SELECT id
+			  FROM app.outbox_event
+			 WHERE status = 'PENDING'
+			   AND next_attempt_at <= :now
+			 ORDER BY next_attempt_at, id
+			 LIMIT :batchSize
+			 FOR UPDATE SKIP LOCKED
+			""", nativeQuery = true)
+	List<Long> findClaimableIdsForUpdate(LocalDateTime now, int batchSize);
+
+	/**
+	 * 가져간 이벤트 임대(lease) 설정 및 시도 횟수 증가
+	 * 처리 중 노드가 종료되어도 임대가 끝나면 다시 처리 대상이 됨
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("""
+			UPDATE OutboxEvent e
+			   SET e.nextAttemptAt = :leaseUntil,
+			       e.attempts = e.attempts + 1,
+			       e.updatedAt = :now
+			 WHERE e.id IN :ids
+			""")
+	int lease(List<Long> ids, LocalDateTime leaseUntil, LocalDateTime now);
+
+	@Modifying
+	@Query("""
+			UPDATE OutboxEvent e
+			   SET e.status = com.chaean.teamchatsa.global.outbox.OutboxStatus.PROCESSED,
+			       e.processedAt = :now,
+			       e.lastError = null,
+			       e.updatedAt = :now
+			 WHERE e.id = :id
+			""")
+	int markProcessed(Long id, LocalDateTime now);
+
+	@Modifying
+	@Query("""
+			UPDATE OutboxEvent e
+			   SET e.nextAttemptAt = :nextAttemptAt,
+			       e.lastError = :lastError,
+			       e.updatedAt = :now
+			 WHERE e.id = :id
+			""")
+	int reschedule(Long id, LocalDateTime nextAttemptAt, String lastError, LocalDateTime now);
+
+	@Modifying
+	@Query("""
+			UPDATE OutboxEvent e
+			   SET e.nextAttemptAt = :nextAttemptAt,
+			       e.attempts = e.attempts - 1,
+			       e.updatedAt = :now
+			 WHERE e.id = :id
+			""")
+	int postpone(Long id, LocalDateTime nextAttemptAt, LocalDateTime now);
+
+	@Modifying
+	@Query("""
+			UPDATE OutboxEvent e
+			   SET e.status = com.chaean.teamchatsa.global.outbox.OutboxStatus.DEAD,
+			       e.lastError = :lastError,
+			       e.updatedAt = :now
+			 WHERE e.id = :id
+			""")
+	int markDead(Long id, String lastError, LocalDateTime now);
+
+	/**
+	 * 보관 기간이 지난 처리 완료 이벤트 삭제 (배치 단위)
+	 */
+	@Modifying
+	@Query(value = """
+			DELETE FROM app.outbox_event
+			 WHERE id IN (
+			     SELECT id
+			       FROM app.outbox_event
+			      WHERE status = 'PROCESSED'
+			        AND processed_at < :cutoff
+			      ORDER BY processed_at
+			      LIMIT :batchSize
+			 )
+			""", nativeQuery = true)
+	int deleteProcessedBefore(LocalDateTime cutoff, int batchSize);
+}
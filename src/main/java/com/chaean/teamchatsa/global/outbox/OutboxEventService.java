@@ -0,0 +1,94 @@
+package com.chaean.teamchatsa.global.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxEventService {
+
+	private static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+	private final OutboxEventRepository outboxEventRepo;
+
+	@Value("${app.outbox.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${app.outbox.retry-base-delay-millis:5000}")
+	private long retryBaseDelayMillis;
+
+	@Value("${app.outbox.retry-max-delay-millis:600000}")
+	private long retryMaxDelayMillis;
+
+	/**
+	 * 처리할 이벤트를 가져오고 임대 설정 (잠금은 이 트랜잭션 동안만 유지)
+	 */
+	@Transactional
+	public List<OutboxEvent> claim(int batchSize, Duration lease) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> ids = outboxEventRepo.findClaimableIdsForUpdate(now, batchSize);
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+
+		outboxEventRepo.lease(ids, now.plus(lease), now);
+		return outboxEventRepo.findAllById(ids).stream()
+				.sorted(Comparator.comparing(OutboxEvent::getId))
+				.toList();
+	}
+
+	@Transactional
+	public void markProcessed(Long id) {
+		outboxEventRepo.markProcessed(id, LocalDateTime.now());
+	}
+
+	/**
+	 * 실행기 포화로 처리하지 못한 이벤트를 시도 횟수 차감 없이 잠시 뒤로 미룸
+	 */
+	@Transactional
+	public void postpone(OutboxEvent event, Duration delay) {
+		LocalDateTime now = LocalDateTime.now();
+		outboxEventRepo.postpone(event.getId(), now.plus(delay), now);
+	}
+
+	/**
+	 * 처리 실패 기록
+	 * 최대 시도 횟수 미만이면 지수 백오프로 재시도를 예약하고, 초과하면 데드레터(DEAD)로 전환
+	 *
+	 * @return 데드레터로 전환되었으면 true
+	 */
+	@Transactional
+	public boolean markFailed(OutboxEvent event, Exception error) {
+		LocalDateTime now = LocalDateTime.now();
+		String lastError = truncate(error.getClass().getSimpleName() + ": " + error.getMessage());
+
+		// attempts는 가져올 때 이미 증가된 값
+		int attempts = event.getAttempts();
+		if (attempts >= maxAttempts) {
+			outboxEventRepo.markDead(event.getId(), lastError, now);
+			return true;
+		}
+
+		long delayMillis = Math.min(retryBaseDelayMillis << Math.min(attempts - 1, 20), retryMaxDelayMillis);
+		outboxEventRepo.reschedule(event.getId(), now.plus(Duration.ofMillis(delayMillis)), lastError, now);
+		return false;
+	}
+
+	/**
+	 * 보관 기간이 지난 처리 완료 이벤트 삭제 (1배치 = 1트랜잭션)
+	 */
+	@Transactional
+	public int deleteProcessedBefore(LocalDateTime cutoff, int batchSize) {
+		return outboxEventRepo.deleteProcessedBefore(cutoff, batchSize);
+	}
+
+	private String truncate(String message) {
+		return message.length() <= LAST_ERROR_MAX_LENGTH ? message : message.substring(0, LAST_ERROR_MAX_LENGTH);
+	}
+}
@@ -0,0 +1,106 @@
+package com.chaean.teamchatsa.global.outbox;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * @OutboxEventListener 핸들러 레지스트리
+ * 기동 시 빈의 핸들러 메서드를 수집하여 이벤트 타입별/이름별로 보관
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxHandlerRegistry implements SmartInitializingSingleton {
+
+	private final ConfigurableListableBeanFactory beanFactory;
+
+	private final Map<String, OutboxHandler> handlersByName = new HashMap<>();
+	private final Map<Class<?>, List<OutboxHandler>> handlersByEventType = new HashMap<>();
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		for (String beanName : beanFactory.getBeanNamesForType(Object.class, false, false)) {
+			Class<?> beanType = beanFactory.getType(beanName);
+			if (beanType == null) {
+				continue;
+			}
+
+			Map<Method, OutboxEventListener> methods = MethodIntrospector.selectMethods(
+					ClassUtils.getUserClass(beanType),
+					(MethodIntrospector.MetadataLookup<OutboxEventListener>) method ->
+							AnnotatedElementUtils.findMergedAnnotation(method, OutboxEventListener.class)
+			);
+			if (methods.isEmpty()) {
+				continue;
+			}
+
+			Object bean = beanFactory.getBean(beanName);
+			methods.forEach((method, annotation) -> register(bean, method, annotation));
+		}
+		log.info("아웃박스 핸들러 등록 완료: handlers={}", handlersByName.keySet());
+	}
+
+	/** 이벤트 타입의 핸들러 목록 */
+	public List<OutboxHandler> getHandlers(Class<?> eventType) {
+		return handlersByEventType.getOrDefault(eventType, List.of());
+	}
+
+	/** 핸들러 이름으로 조회 (없으면 null) */
+	public OutboxHandler getHandler(String name) {
+		return handlersByName.get(name);
+	}
+
+	private void register(Object bean, Method method, OutboxEventListener annotation) {
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		if (parameterTypes.length != 1 || !DomainEvent.class.isAssignableFrom(parameterTypes[0])) {
+			throw new IllegalStateException("@OutboxEventListener 메서드는 DomainEvent 파라미터 하나만 받아야 합니다: " + method);
+		}
+
+		OutboxHandler handler = new OutboxHandler(
+				annotation.value(),
+				annotation.executor(),
+				parameterTypes[0],
+				bean,
+				AopUtils.selectInvocableMethod(method, bean.getClass())
+		);
+		if (handlersByName.putIfAbsent(handler.getName(), handler) != null) {
+			throw new IllegalStateException("중복된 아웃박스 핸들러 이름입니다: " + handler.getName());
+		}
+		handlersByEventType.computeIfAbsent(handler.getEventType(), key -> new ArrayList<>()).add(handler);
+	}
+
+	@Getter
+	@RequiredArgsConstructor
+	public static class OutboxHandler {
+		private final String name;
+		private final String executor;
+		private final Class<?> eventType;
+		private final Object bean;
+		private final Method method;
+
+		public void invoke(Object event) throws Exception {
+			try {
+				method.invoke(bean, event);
+			} catch (InvocationTargetException e) {
+				if (e.getCause() instanceof Exception cause) {
+					throw cause;
+				}
+				throw e;
+			}
+		}
+	}
+}
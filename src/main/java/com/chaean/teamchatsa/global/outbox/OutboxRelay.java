@@ -0,0 +1,145 @@
+package com.chaean.teamchatsa.global.outbox;
+
+import com.chaean.teamchatsa.global.config.AsyncConfig;
+import com.chaean.teamchatsa.global.outbox.OutboxHandlerRegistry.OutboxHandler;
+import com.chaean.teamchatsa.infra.slack.SlackAlertService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스 릴레이
+ * 처리 대기 이벤트를 배치로 가져와(SKIP LOCKED) 핸들러별 실행기에서 실행하고, 핸들러별로 성공/재시도/데드레터를 기록
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+	private static final int PURGE_RETENTION_DAYS = 7;
+	private static final int PURGE_BATCH_SIZE = 1_000;
+	private static final Duration REJECTED_RETRY_DELAY = Duration.ofSeconds(5);
+
+	private final OutboxEventService outboxEventService;
+	private final OutboxHandlerRegistry handlerRegistry;
+	private final ObjectMapper objectMapper;
+	private final SlackAlertService slackAlertService;
+	private final Map<String, ThreadPoolTaskExecutor> executors;
+	private final int batchSize;
+	private final Duration lease;
+
+	public OutboxRelay(
+			OutboxEventService outboxEventService,
+			OutboxHandlerRegistry handlerRegistry,
+			ObjectMapper objectMapper,
+			SlackAlertService slackAlertService,
+			Map<String, ThreadPoolTaskExecutor> executors,
+			@Value("${app.outbox.batch-size:100}") int batchSize,
+			@Value("${app.outbox.lease-millis:300000}") long leaseMillis
+	) {
+		this.outboxEventService = outboxEventService;
+		this.handlerRegistry = handlerRegistry;
+		this.objectMapper = objectMapper;
+		this.slackAlertService = slackAlertService;
+		this.executors = executors;
+		this.batchSize = batchSize;
+		this.lease = Duration.ofMillis(leaseMillis);
+	}
+
+	@Scheduled(fixedDelayString = "${app.outbox.poll-interval-millis:500}")
+	public void relay() {
+		try {
+			List<OutboxEvent> events = outboxEventService.claim(batchSize, lease);
+			events.forEach(this::submit);
+		} catch (Exception e) {
+			log.error("아웃박스 이벤트 조회 실패", e);
+		}
+	}
+
+	/**
+	 * 처리 완료 이벤트 정리
+	 */
+	@Scheduled(cron = "${app.outbox.purge-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+	public void purgeProcessed() {
+		LocalDateTime cutoff = LocalDateTime.now().minusDays(PURGE_RETENTION_DAYS);
+		int total = 0;
+		try {
+			int deleted;
+			do {
+				deleted = outboxEventService.deleteProcessedBefore(cutoff, PURGE_BATCH_SIZE);
+				total += deleted;
+			} while (deleted == PURGE_BATCH_SIZE);
+		} catch (Exception e) {
+			log.error("아웃박스 이벤트 정리 실패: deleted={}", total, e);
+			return;
+		}
+		log.info("아웃박스 이벤트 정리 완료: cutoff={}, deleted={}", cutoff, total);
+	}
+
+	/**
+	 * 핸들러에 지정된 실행기로 제출
+	 * 거절 정책이 호출자 실행(CallerRuns)이면 폴링 스레드가 직접 처리하여 자연스럽게 속도가 조절되고,
+	 * 거절(Abort)이면 시도 횟수 차감 없이 잠시 뒤 다시 가져오도록 미룸
+	 */
+	private void submit(OutboxEvent event) {
+		OutboxHandler handler = handlerRegistry.getHandler(event.getHandler());
+		ThreadPoolTaskExecutor executor = executors.getOrDefault(
+				handler != null ? handler.getExecutor() : AsyncConfig.DEFAULT_EXECUTOR,
+				executors.get(AsyncConfig.DEFAULT_EXECUTOR)
+		);
+
+		try {
+			executor.execute(() -> dispatch(event));
+		} catch (TaskRejectedException e) {
+			log.warn("아웃박스 이벤트 실행기 포화, 처리 연기: id={}, handler={}", event.getId(), event.getHandler());
+			try {
+				outboxEventService.postpone(event, REJECTED_RETRY_DELAY);
+			} catch (Exception postponeError) {
+				// 연기 기록에 실패해도 임대가 끝나면 다시 처리됨
+				log.error("아웃박스 이벤트 연기 실패: id={}", event.getId(), postponeError);
+			}
+		}
+	}
+
+	private void dispatch(OutboxEvent event) {
+		OutboxHandler handler = handlerRegistry.getHandler(event.getHandler());
+		try {
+			if (handler == null) {
+				throw new IllegalStateException("등록되지 않은 아웃박스 핸들러입니다: " + event.getHandler());
+			}
+			handler.invoke(objectMapper.readValue(event.getPayload(), handler.getEventType()));
+			outboxEventService.markProcessed(event.getId());
+		} catch (Exception e) {
+			handleFailure(event, e);
+		}
+	}
+
+	private void handleFailure(OutboxEvent event, Exception error) {
+		try {
+			boolean dead = outboxEventService.markFailed(event, error);
+			if (!dead) {
+				log.warn("아웃박스 이벤트 처리 실패, 재시도 예약: id={}, handler={}, attempts={}",
+						event.getId(), event.getHandler(), event.getAttempts(), error);
+				return;
+			}
+
+			log.error("아웃박스 이벤트 데드레터 전환: id={}, handler={}, attempts={}",
+					event.getId(), event.getHandler(), event.getAttempts(), error);
+			slackAlertService.sendAsyncFailureAlert(
+					event.getHandler(),
+					error.getMessage(),
+					new Object[]{event.getId(), event.getPayload()}
+			);
+		} catch (Exception e) {
+			// 기록에 실패해도 임대가 끝나면 다시 처리됨
+			log.error("아웃박스 이벤트 실패 기록 실패: id={}", event.getId(), e);
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.chaean.teamchatsa.global.outbox;
+
+public enum OutboxStatus {
+	PENDING,    // 처리 대기 (재시도 대기 포함)
+	PROCESSED,  // 처리 완료
+	DEAD        // 최대 시도 횟수 초과 (데드레터)
+}
@@ -0,0 +1,143 @@
+package com.chaean.teamchatsa.infra.ai.service;
+
+import com.chaean.teamchatsa.global.common.util.QueryKeyUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색어 임베딩 캐시 (L1: 노드 로컬 Caffeine, L2: Redis)
+ * 같은 모델/차원의 임베딩은 입력이 같으면 결과가 같으므로 정규화한 키워드 기준으로 재사용
+ * Redis에는 JSON 대신 float 배열을 리틀 엔디언 바이트로 그대로 저장 (384차원 = 1,536 bytes)
+ */
+@Component
+@Slf4j
+public class EmbeddingCache {
+
+	private static final String KEY_PREFIX = "embedding:";
+	private static final String METRIC_NAME = "cache.embedding.requests";
+	private static final long LOCAL_MAX_SIZE = 5_000;
+	private static final Duration LOCAL_TTL = Duration.ofHours(1);
+	private static final Duration REMOTE_TTL = Duration.ofDays(7);
+
+	private final EmbeddingModel embeddingModel;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final MeterRegistry meterRegistry;
+	// 모델이나 차원이 바뀌면 다른 키 공간을 사용하여 이전 벡터를 재사용하지 않음
+	private final String keyNamespace;
+	private final int dimensions;
+
+	private final Cache<String, float[]> localCache = Caffeine.newBuilder()
+			.maximumSize(LOCAL_MAX_SIZE)
+			.expireAfterWrite(LOCAL_TTL)
+			.recordStats()
+			.build();
+
+	public EmbeddingCache(
+			EmbeddingModel embeddingModel,
+			RedisTemplate<String, String> redisTemplate,
+			MeterRegistry meterRegistry,
+			@Value("${spring.ai.openai.embedding.options.model:text-embedding-3-small}") String model,
+			@Value("${spring.ai.openai.embedding.options.dimensions:384}") int dimensions
+	) {
+		this.embeddingModel = embeddingModel;
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.keyNamespace = KEY_PREFIX + model + ":" + dimensions + ":";
+		this.dimensions = dimensions;
+	}
+
+	@PostConstruct
+	void init() {
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, "query-embedding");
+	}
+
+	/**
+	 * 키워드 임베딩 조회 (L1 → L2 → 임베딩 API 순서)
+	 * 반환 배열은 캐시와 공유되므로 수정하지 않아야 함
+	 */
+	public float[] embed(String keyword) {
+		// 키와 임베딩 입력을 같은 정규화 문자열로 맞춰, 먼저 들어온 표기에 따라 캐시 값이 달라지지 않도록 함
+		String normalizedKeyword = QueryKeyUtils.normalize(keyword);
+		String key = keyNamespace + QueryKeyUtils.sha256(normalizedKeyword);
+
+		float[] local = localCache.getIfPresent(key);
+		if (local != null) {
+			return local;
+		}
+
+		float[] remote = getRemote(key);
+		if (remote != null) {
+			record("hit");
+			localCache.put(key, remote);
+			return remote;
+		}
+		record("miss");
+
+		float[] vector = embeddingModel.embed(normalizedKeyword);
+		localCache.put(key, vector);
+		putRemote(key, vector);
+		return vector;
+	}
+
+	private float[] getRemote(String key) {
+		try {
+			byte[] packed = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+					connection.stringCommands().get(key.getBytes(StandardCharsets.UTF_8)));
+			if (packed == null) {
+				return null;
+			}
+			if (packed.length != dimensions * Float.BYTES) {
+				log.warn("임베딩 캐시 크기 불일치로 무시: key={}, bytes={}", key, packed.length);
+				return null;
+			}
+			return unpack(packed);
+		} catch (Exception e) {
+			log.error("임베딩 캐시 조회 실패: key={}", key, e);
+			return null;
+		}
+	}
+
+	private void putRemote(String key, float[] vector) {
+		try {
+			redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(
+					key.getBytes(StandardCharsets.UTF_8),
+					pack(vector),
+					Expiration.from(REMOTE_TTL),
+					SetOption.upsert()
+			));
+		} catch (Exception e) {
+			log.error("임베딩 캐시 저장 실패: key={}", key, e);
+		}
+	}
+
+	static byte[] pack(float[] vector) {
+		ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.asFloatBuffer().put(vector);
+		return buffer.array();
+	}
+
+	static float[] unpack(byte[] packed) {
+		float[] vector = new float[packed.length / Float.BYTES];
+		ByteBuffer.wrap(packed).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+		return vector;
+	}
+
+	private void record(String result) {
+		meterRegistry.counter(METRIC_NAME, "tier", "l2", "result", result).increment();
+	}
+}
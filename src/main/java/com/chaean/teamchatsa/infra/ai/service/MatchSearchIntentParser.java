@@ -1,19 +1,32 @@
 package com.chaean.teamchatsa.infra.ai.service;
 
 import com.chaean.teamchatsa.domain.team.model.Team;
+import com.chaean.teamchatsa.global.common.util.QueryKeyUtils;
 import com.chaean.teamchatsa.infra.ai.dto.MatchSearchIntent;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.chaean.teamchatsa.global.config.AsyncConfig;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.IntStream;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class MatchSearchIntentParser {
 
@@ -22,61 +35,127 @@ public class MatchSearchIntentParser {
 			"세종", "경기", "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주"
 	);
 
+	private static final long INTENT_CACHE_MAX_SIZE = 10_000;
+	private static final Duration INTENT_CACHE_TTL = Duration.ofHours(6);
+
 	private final ChatModel chatModel;
 	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final Executor aiExecutor;
+
+	/**
+	 * LLM 해석 결과 캐시 (키: 정규화한 검색어 + 프롬프트에 들어가는 팀 정보)
+	 * 승률은 프롬프트와 같은 소수점 한 자리 문자열로 보관하여, 같은 키는 항상 같은 프롬프트가 됨
+	 * 보정(sanitize)은 실제 팀 승률을 기본값으로 쓰므로 LLM 응답을 보관하고 조회마다 보정
+	 * 수 초 걸리는 LLM 호출을 캐시 내부 락 안에서 실행하지 않도록 비동기 캐시로 두고 AI 실행기에서 호출하며,
+	 * 같은 키의 동시 미스는 진행 중인 Future 하나를 공유 (예외/null로 끝난 Future는 캐시에서 제거됨)
+	 */
+	private final AsyncCache<IntentCacheKey, MatchSearchIntent> llmIntents = Caffeine.newBuilder()
+			.maximumSize(INTENT_CACHE_MAX_SIZE)
+			.expireAfterWrite(INTENT_CACHE_TTL)
+			.recordStats()
+			.buildAsync();
+
+	public MatchSearchIntentParser(
+			ChatModel chatModel,
+			ObjectMapper objectMapper,
+			MeterRegistry meterRegistry,
+			@Qualifier(AsyncConfig.AI_EXECUTOR) Executor aiExecutor
+	) {
+		this.chatModel = chatModel;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.aiExecutor = aiExecutor;
+	}
+
+	@PostConstruct
+	void init() {
+		CaffeineCacheMetrics.monitor(meterRegistry, llmIntents.synchronous(), "match-search-intent");
+	}
 
 	public MatchSearchIntent parse(Team myTeam, String query) {
+		String normalizedQuery = QueryKeyUtils.normalize(query);
+		IntentCacheKey cacheKey = new IntentCacheKey(
+				normalizedQuery,
+				myTeam.getLevel().getValue(),
+				"%.1f".formatted(myTeam.getWinRate()),
+				myTeam.getArea(),
+				myTeam.getDescription() == null ? "" : myTeam.getDescription()
+		);
+
+		// 같은 키의 동시 미스는 LLM 호출 1회로 합침 (실패 시 null을 반환해 fallback 결과는 캐싱하지 않음)
+		// 대기는 Future join이므로 가상 스레드는 고정되지 않고 언마운트됨
+		MatchSearchIntent intent;
 		try {
-			// 내 팀 정보와 검색어를 함께 전달해 검색 의도를 JSON으로 추출
-			String prompt = """
-					너는 풋살 매치 검색어를 분석해 DB 검색용 JSON만 반환하는 파서다.
-					설명 문장, 코드블록, 마크다운 없이 JSON만 출력해라.
-					
-					레벨 척도:
-					1=하하, 2=하, 3=중하, 4=중, 5=중상, 6=상, 7=상상
-					
-					반환 JSON 형식:
-					{
-					  "levelIn": [정수 배열],
-					  "winRateMin": 0.0,
-					  "winRateMax": 100.0,
-					  "region": "서울 또는 null",
-					  "vectorKeyword": "스타일/매너 관련 키워드"
-					}
-					
-					규칙:
-					1. levelIn은 반드시 1~7 정수만 포함해라.
-					2. 승률은 0~100 범위의 숫자로 반환해라.
-					3. 지역은 서울, 부산, 대구, 인천, 광주, 대전, 울산, 세종, 경기, 강원, 충북, 충남, 전북, 전남, 경북, 경남, 제주 중 하나만 반환하거나 없으면 null로 둬라.
-					4. 벡터 검색용 의미어만 vectorKeyword에 담고, 레벨/승률/지역 조건은 별도 필드로 분리해라.
-					5. "잘하지 못하는" 같은 부정형 문맥을 정확히 해석해라.
-					6. 비슷한 수준이면 levelIn은 내 팀 레벨 기준 ±1 범위, 승률은 ±10 범위를 기본값으로 사용해라.
-					7. 높은 수준이면 levelIn은 내 팀보다 높은 레벨 위주, 승률은 내 팀 승률 이상으로 사용해라.
-					8. 낮은 수준이면 levelIn은 내 팀보다 낮은 레벨 위주, 승률은 내 팀 승률 이하로 사용해라.
-					
-					내 팀 정보:
-					- level: %d
-					- winRate: %.1f
-					- area: %s
-					- description: %s
-					
-					사용자 검색어:
-					%s
-					""".formatted(
-					myTeam.getLevel().getValue(),
-					myTeam.getWinRate(),
-					myTeam.getArea(),
-					myTeam.getDescription() == null ? "" : myTeam.getDescription(),
-					query
-			);
-
-			String response = chatModel.call(new Prompt(prompt)).getResult().getOutput().getText();
-			MatchSearchIntent intent = objectMapper.readValue(response, MatchSearchIntent.class);
-			return sanitize(intent, myTeam, query);
-		} catch (Exception e) {
-			log.warn("[AI] 검색 의도 파싱 실패로 fallback 규칙을 사용합니다. query={}", query, e);
+			intent = llmIntents.get(cacheKey, (key, executor) ->
+					CompletableFuture.supplyAsync(() -> loadIntent(key), aiExecutor)
+			).join();
+		} catch (RejectedExecutionException e) {
+			log.warn("[AI] AI 실행기 포화로 fallback 규칙을 사용합니다. query={}", query);
+			intent = null;
+		}
+		if (intent == null) {
 			return fallback(myTeam, query);
 		}
+		return sanitize(intent, myTeam, query);
+	}
+
+	// LLM 장애 복구 후 다시 해석하도록 실패는 캐싱하지 않음
+	private MatchSearchIntent loadIntent(IntentCacheKey cacheKey) {
+		try {
+			return requestIntent(cacheKey);
+		} catch (Exception e) {
+			log.warn("[AI] 검색 의도 파싱 실패로 fallback 규칙을 사용합니다. query={}", cacheKey.getQuery(), e);
+			return null;
+		}
+	}
+
+	private MatchSearchIntent requestIntent(IntentCacheKey cacheKey) throws Exception {
+		// 내 팀 정보와 검색어를 함께 전달해 검색 의도를 JSON으로 추출
+		String prompt = """
+				너는 풋살 매치 검색어를 분석해 DB 검색용 JSON만 반환하는 파서다.
+				설명 문장, 코드블록, 마크다운 없이 JSON만 출력해라.
+				
+				레벨 척도:
+				1=하하, 2=하, 3=중하, 4=중, 5=중상, 6=상, 7=상상
+				
+				반환 JSON 형식:
+				{
+				  "levelIn": [정수 배열],
+				  "winRateMin": 0.0,
+				  "winRateMax": 100.0,
+				  "region": "서울 또는 null",
+				  "vectorKeyword": "스타일/매너 관련 키워드"
+				}
+				
+				규칙:
+				1. levelIn은 반드시 1~7 정수만 포함해라.
+				2. 승률은 0~100 범위의 숫자로 반환해라.
+				3. 지역은 서울, 부산, 대구, 인천, 광주, 대전, 울산, 세종, 경기, 강원, 충북, 충남, 전북, 전남, 경북, 경남, 제주 중 하나만 반환하거나 없으면 null로 둬라.
+				4. 벡터 검색용 의미어만 vectorKeyword에 담고, 레벨/승률/지역 조건은 별도 필드로 분리해라.
+				5. "잘하지 못하는" 같은 부정형 문맥을 정확히 해석해라.
+				6. 비슷한 수준이면 levelIn은 내 팀 레벨 기준 ±1 범위, 승률은 ±10 범위를 기본값으로 사용해라.
+				7. 높은 수준이면 levelIn은 내 팀보다 높은 레벨 위주, 승률은 내 팀 승률 이상으로 사용해라.
+				8. 낮은 수준이면 levelIn은 내 팀보다 낮은 레벨 위주, 승률은 내 팀 승률 이하로 사용해라.
+				
+				내 팀 정보:
+				- level: %d
+				- winRate: %s
+				- area: %s
+				- description: %s
+				
+				사용자 검색어:
+				%s
+				""".formatted(
+				cacheKey.getLevel(),
+				cacheKey.getWinRate(),
+				cacheKey.getArea(),
+				cacheKey.getDescription(),
+				cacheKey.getQuery()
+		);
+
+		String response = chatModel.call(new Prompt(prompt)).getResult().getOutput().getText();
+		return objectMapper.readValue(response, MatchSearchIntent.class);
 	}
 
 	// LLM 응답을 현재 서비스 규칙에 맞게 보정
@@ -198,4 +277,15 @@ public class MatchSearchIntentParser {
 				.boxed()
 				.toList();
 	}
+
+	@Getter
+	@EqualsAndHashCode
+	@RequiredArgsConstructor
+	private static class IntentCacheKey {
+		private final String query;
+		private final int level;
+		private final String winRate;
+		private final String area;
+		private final String description;
+	}
 }
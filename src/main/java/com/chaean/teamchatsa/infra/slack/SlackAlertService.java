@@ -1,5 +1,6 @@
 package com.chaean.teamchatsa.infra.slack;
 
+import com.chaean.teamchatsa.global.config.AsyncConfig;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +24,7 @@ public class SlackAlertService {
 	private boolean enabled;
 
 	/** Slack 알림 전송 (비동기)*/
-	@Async
+	@Async(AsyncConfig.ALERT_EXECUTOR)
 	public void sendAlert(SlackMessage message) {
 		if (!enabled || webhookUrl == null || webhookUrl.isEmpty()) {
 			log.debug("Slack 알림이 비활성화되어 있습니다.");
@@ -48,7 +49,8 @@ public class SlackAlertService {
 		}
 	}
 
-	/** 에러 알림 전송 */
+	/** 에러 알림 전송 (내부 sendAlert 호출은 프록시를 거치지 않으므로 여기서 비동기 지정) */
+	@Async(AsyncConfig.ALERT_EXECUTOR)
 	public void sendErrorAlert(
 			String errorTitle,
 			String errorMessage,
@@ -63,6 +65,7 @@ public class SlackAlertService {
 	}
 
 	/** 비동기 작업 실패 알림 전송 (편의 메서드) */
+	@Async(AsyncConfig.ALERT_EXECUTOR)
 	public void sendAsyncFailureAlert(String methodName, String errorMessage, Object[] params) {
 		SlackMessage message = SlackMessage.createAsyncFailureAlert(
 				methodName, errorMessage, params
@@ -0,0 +1,20 @@
+SET search_path TO app, public;
+
+ALTER TABLE team
+    ADD COLUMN IF NOT EXISTS member_count INTEGER NOT NULL DEFAULT 0;
+
+-- 기존 팀원 수 백필 (소프트 삭제된 팀원 제외)
+UPDATE team t
+SET member_count = c.cnt
+FROM (SELECT team_id, COUNT(*) AS cnt
+      FROM team_member
+      WHERE deleted_at IS NULL
+      GROUP BY team_id) c
+WHERE t.id = c.team_id;
+
+ALTER TABLE team
+    ADD CONSTRAINT chk_team_member_count CHECK (member_count >= 0);
+
+COMMENT ON COLUMN team.member_count IS '팀원 수 (비정규화, team_member 기준 재집계 스케줄러로 보정)';
+
+ANALYZE team;
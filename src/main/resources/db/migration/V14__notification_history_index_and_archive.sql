@@ -0,0 +1,38 @@
+SET search_path TO app, public;
+
+-- 알림 이력 커서 조회용 인덱스 (recipient_id 조건 + created_at/id 내림차순)
+CREATE INDEX IF NOT EXISTS idx_notification_recipient_created_id
+    ON notification (recipient_id, created_at DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- 보관 기간이 지난 읽은 알림 탐색용 인덱스
+CREATE INDEX IF NOT EXISTS idx_notification_read_created
+    ON notification (created_at)
+    WHERE is_read = true;
+
+COMMENT ON INDEX idx_notification_recipient_created_id IS '알림 이력 커서 페이징 최적화 (수신자, 생성일/ID 정렬)';
+COMMENT ON INDEX idx_notification_read_created IS '읽은 알림 보관(아카이브) 대상 탐색';
+
+-- 알림 아카이브 테이블 (보관 기간이 지난 알림을 이동)
+CREATE TABLE IF NOT EXISTS notification_archive
+(
+    id BIGINT PRIMARY KEY,
+    recipient_id BIGINT NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    content VARCHAR(500) NOT NULL,
+    link VARCHAR(255),
+    is_read BOOLEAN NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    deleted_at TIMESTAMP WITHOUT TIME ZONE,
+    archived_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_archive_recipient_created
+    ON notification_archive (recipient_id, created_at DESC);
+
+COMMENT ON TABLE notification_archive IS '알림 아카이브 테이블 - 보관 기간이 지난 읽은 알림';
+COMMENT ON INDEX idx_notification_archive_recipient_created IS '아카이브 알림 수신자별 조회';
+
+ANALYZE notification;
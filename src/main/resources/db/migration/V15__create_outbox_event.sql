@@ -0,0 +1,33 @@
+SET search_path TO app, public;
+
+-- 도메인 이벤트 아웃박스 (이벤트 발행 트랜잭션과 함께 저장, 핸들러별 1행)
+CREATE TABLE IF NOT EXISTS outbox_event
+(
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    handler VARCHAR(150) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    last_error VARCHAR(1000),
+    processed_at TIMESTAMP WITHOUT TIME ZONE,
+    created_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    deleted_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT outbox_event_status_check CHECK (status IN ('PENDING', 'PROCESSED', 'DEAD'))
+);
+
+-- 처리 대기 이벤트 폴링 (FOR UPDATE SKIP LOCKED)
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending
+    ON outbox_event (next_attempt_at, id)
+    WHERE status = 'PENDING';
+
+-- 처리 완료 이벤트 정리
+CREATE INDEX IF NOT EXISTS idx_outbox_event_processed
+    ON outbox_event (processed_at)
+    WHERE status = 'PROCESSED';
+
+COMMENT ON TABLE outbox_event IS '도메인 이벤트 아웃박스 - 핸들러별 처리 상태, 재시도, 데드레터(DEAD) 관리';
+COMMENT ON INDEX idx_outbox_event_pending IS '처리 대기 이벤트 폴링 최적화';
+COMMENT ON INDEX idx_outbox_event_processed IS '처리 완료 이벤트 정리 대상 탐색';
@@ -0,0 +1,11 @@
+SET search_path TO app, public;
+
+-- 팀 스타일 벡터 근사 최근접 이웃(ANN) 검색용 HNSW 인덱스 (코사인 거리, <=> 연산자)
+CREATE INDEX IF NOT EXISTS idx_team_style_vector_hnsw
+    ON team USING hnsw (style_vector vector_cosine_ops)
+    WITH (m = 16, ef_construction = 64)
+    WHERE deleted_at IS NULL;
+
+COMMENT ON INDEX idx_team_style_vector_hnsw IS 'AI 매치 추천 1단계 후보 팀 ANN 검색 (코사인 거리)';
+
+ANALYZE team;
@@ -0,0 +1,25 @@
+SET search_path TO app, public;
+
+-- 리뷰 단위 임베딩 (작성 후 한 번만 생성)
+ALTER TABLE team_review
+    ADD COLUMN IF NOT EXISTS content_vector vector(384);
+
+-- 팀 스타일 벡터의 최신성 가중 평균 상태
+ALTER TABLE team
+    ADD COLUMN IF NOT EXISTS style_weight     DOUBLE PRECISION NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS style_updated_at TIMESTAMP WITHOUT TIME ZONE,
+    ADD COLUMN IF NOT EXISTS style_summary    TEXT;
+
+-- 임베딩 대기 리뷰 조회용
+CREATE INDEX IF NOT EXISTS idx_team_review_team_pending
+    ON team_review (team_id, created_at, id)
+    WHERE content_vector IS NULL AND deleted_at IS NULL;
+
+COMMENT ON COLUMN team_review.content_vector IS '리뷰 본문 임베딩 (팀 스타일 벡터 누적에 사용)';
+COMMENT ON COLUMN team.style_weight IS '스타일 벡터 누적 가중치 합 (style_updated_at 기준으로 시간 감쇠)';
+COMMENT ON COLUMN team.style_updated_at IS '스타일 벡터에 마지막으로 반영된 리뷰 작성 시각';
+COMMENT ON COLUMN team.style_summary IS 'AI 팀 스타일 요약 (표시용, 선택 기능)';
+COMMENT ON INDEX idx_team_review_team_pending IS '임베딩되지 않은 팀 리뷰 조회';
+
+ANALYZE team_review;
+ANALYZE team;
@@ -0,0 +1,14 @@
+SET search_path TO app, public;
+
+-- 임베딩 API가 영구적으로 거부한 리뷰 (재시도 대상에서 제외)
+ALTER TABLE team_review
+    ADD COLUMN IF NOT EXISTS embedding_skipped_at TIMESTAMP WITHOUT TIME ZONE;
+
+-- 임베딩 대기 리뷰 조회용 (건너뛴 리뷰 제외)
+DROP INDEX IF EXISTS idx_team_review_team_pending;
+CREATE INDEX IF NOT EXISTS idx_team_review_team_pending
+    ON team_review (team_id, created_at, id)
+    WHERE content_vector IS NULL AND embedding_skipped_at IS NULL AND deleted_at IS NULL;
+
+COMMENT ON COLUMN team_review.embedding_skipped_at IS '임베딩 불가로 스타일 벡터 반영에서 제외된 시각';
+COMMENT ON INDEX idx_team_review_team_pending IS '임베딩되지 않은 팀 리뷰 조회';
@@ -0,0 +1,23 @@
+SET search_path TO app, public;
+
+-- 매치 목록(오프셋/커서)은 match_date DESC, id DESC 순서로 조회하므로 인덱스 정렬을 맞춤
+-- (match_date ASC, id DESC)는 정방향/역방향 어느 쪽으로도 이 순서를 만들 수 없어 페이지마다 정렬이 발생
+-- 날짜 범위 조건은 정렬 방향과 무관하게 같은 인덱스로 처리되므로 기존 ASC 인덱스는 교체
+DROP INDEX IF EXISTS idx_match_post_open_region_headcount_date;
+
+CREATE INDEX idx_match_post_open_region_headcount_date
+    ON match_post (region, head_count, match_date DESC, id DESC)
+    WHERE deleted_at IS NULL
+        AND status = 'OPEN';
+
+DROP INDEX IF EXISTS idx_match_post_status_date;
+
+CREATE INDEX idx_match_post_status_date
+    ON match_post (match_date DESC, id DESC)
+    WHERE deleted_at IS NULL
+        AND status = 'OPEN';
+
+COMMENT ON INDEX idx_match_post_open_region_headcount_date IS '매치 목록 조회 최적화 (region, headCount, 날짜 DESC/ID DESC 정렬)';
+COMMENT ON INDEX idx_match_post_status_date IS '매치 목록 조회 최적화 (OPEN 전용, 날짜 DESC/ID DESC 정렬)';
+
+ANALYZE match_post;
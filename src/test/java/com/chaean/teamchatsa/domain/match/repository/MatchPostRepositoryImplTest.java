@@ -0,0 +1,56 @@
+package com.chaean.teamchatsa.domain.match.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chaean.teamchatsa.domain.match.dto.response.MatchPostListResponse;
+import com.chaean.teamchatsa.domain.match.model.QMatchPost;
+import com.chaean.teamchatsa.global.exception.BusinessException;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class MatchPostRepositoryImplTest {
+
+	private final QMatchPost mp = QMatchPost.matchPost;
+
+	@Nested
+	@DisplayName("매치 목록 커서")
+	class Cursor {
+
+		@Test
+		@DisplayName("nextCursor를 디코딩하면 마지막 항목 이후(match_date DESC, id DESC) 조건 생성")
+		void roundTrip() {
+			// given
+			LocalDateTime matchDateTime = LocalDateTime.of(2025, 5, 10, 18, 30);
+			MatchPostListResponse lastItem = MatchPostListResponse.builder()
+					.postId(42L)
+					.matchDate(matchDateTime.toLocalDate())
+					.matchTime(matchDateTime.toLocalTime())
+					.build();
+
+			// when
+			String nextCursor = MatchPostRepositoryImpl.encodeCursor(lastItem);
+
+			// then
+			assertThat(MatchPostRepositoryImpl.cursorCondition(nextCursor, mp)).isEqualTo(
+					mp.matchDate.loe(matchDateTime)
+							.and(mp.matchDate.lt(matchDateTime).or(mp.id.lt(42L)))
+			);
+		}
+
+		@Test
+		@DisplayName("빈 커서 - 첫 페이지이므로 조건 없음")
+		void emptyCursor() {
+			assertThat(MatchPostRepositoryImpl.cursorCondition("", mp)).isNull();
+		}
+
+		@Test
+		@DisplayName("형식이 잘못된 커서 - 예외 발생")
+		void invalidCursor() {
+			assertThatThrownBy(() -> MatchPostRepositoryImpl.cursorCondition("not-a-cursor", mp))
+					.isInstanceOf(BusinessException.class);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package com.chaean.teamchatsa.domain.match.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.chaean.teamchatsa.domain.match.dto.request.MatchRecommendationRequest;
+import com.chaean.teamchatsa.domain.match.dto.response.MatchRecommendationResponse;
+import com.chaean.teamchatsa.domain.match.repository.MatchPostRepository;
+import com.chaean.teamchatsa.domain.team.model.Team;
+import com.chaean.teamchatsa.domain.team.repository.TeamRepository;
+import com.chaean.teamchatsa.domain.team.service.TeamMembershipResolver;
+import com.chaean.teamchatsa.global.common.util.CacheKeyGenerator;
+import com.chaean.teamchatsa.global.common.util.TieredCacheUtil;
+import com.chaean.teamchatsa.infra.ai.dto.MatchSearchIntent;
+import com.chaean.teamchatsa.infra.ai.service.EmbeddingCache;
+import com.chaean.teamchatsa.infra.ai.service.MatchSearchIntentParser;
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MatchRecommendationServiceTest {
+
+	private static final Long USER_ID = 1L;
+	private static final Long MY_TEAM_ID = 10L;
+	private static final String CACHE_KEY = "match:recommend:v1.1:10:key";
+
+	private final FixtureMonkey fixtureMonkey = FixtureMonkey.builder()
+			.objectIntrospector(FieldReflectionArbitraryIntrospector.INSTANCE)
+			.defaultNotNull(true)
+			.build();
+	@InjectMocks
+	private MatchRecommendationService matchRecommendationService;
+	@Mock
+	private TeamMembershipResolver membershipResolver;
+	@Mock
+	private TeamRepository teamRepository;
+	@Mock
+	private MatchPostRepository matchPostRepository;
+	@Mock
+	private EmbeddingCache embeddingCache;
+	@Mock
+	private MatchSearchIntentParser matchSearchIntentParser;
+	@Mock
+	private CacheKeyGenerator cacheKeyGen;
+	@Mock
+	private TieredCacheUtil cacheUtil;
+
+	private MatchRecommendationRequest request(String query) {
+		return fixtureMonkey.giveMeBuilder(MatchRecommendationRequest.class)
+				.set("query", query)
+				.sample();
+	}
+
+	@Nested
+	@DisplayName("매치 추천")
+	class RecommendMatches {
+
+		@Test
+		@DisplayName("캐시 적중 - 팀 조회/LLM 해석/임베딩/벡터 검색 없이 캐시된 결과 반환")
+		void cacheHit() {
+			// given
+			List<MatchRecommendationResponse> cached = List.of(new MatchRecommendationResponse());
+			given(membershipResolver.findTeamId(USER_ID)).willReturn(MY_TEAM_ID);
+			given(cacheKeyGen.generateMatchRecommendationKey(MY_TEAM_ID, "수비 좋은 팀")).willReturn(CACHE_KEY);
+			given(cacheUtil.<List<MatchRecommendationResponse>>get(eq(CACHE_KEY), any())).willReturn(cached);
+
+			// when
+			List<MatchRecommendationResponse> result =
+					matchRecommendationService.recommendMatches(USER_ID, request("  수비   좋은 팀 "));
+
+			// then
+			assertThat(result).isSameAs(cached);
+			verifyNoInteractions(teamRepository, matchSearchIntentParser, embeddingCache, matchPostRepository);
+			verify(cacheUtil, never()).set(anyString(), any(), any());
+		}
+
+		@Test
+		@DisplayName("캐시 미스 - 검색어를 해석해 추천한 뒤 결과를 캐싱")
+		void cacheMiss() {
+			// given
+			Team myTeam = Team.builder().id(MY_TEAM_ID).build();
+			MatchSearchIntent intent = new MatchSearchIntent();
+			intent.setLevelIn(List.of(3, 4));
+			intent.setWinRateMin(0.0);
+			intent.setWinRateMax(100.0);
+			intent.setVectorKeyword("수비");
+			given(membershipResolver.findTeamId(USER_ID)).willReturn(MY_TEAM_ID);
+			given(cacheKeyGen.generateMatchRecommendationKey(MY_TEAM_ID, "수비 좋은 팀")).willReturn(CACHE_KEY);
+			given(teamRepository.findById(MY_TEAM_ID)).willReturn(Optional.of(myTeam));
+			given(matchSearchIntentParser.parse(myTeam, "수비 좋은 팀")).willReturn(intent);
+			given(embeddingCache.embed("수비")).willReturn(new float[]{0.1f, 0.2f});
+
+			// when
+			List<MatchRecommendationResponse> result =
+					matchRecommendationService.recommendMatches(USER_ID, request("수비 좋은 팀"));
+
+			// then
+			assertThat(result).isEmpty();
+			verify(cacheUtil).set(CACHE_KEY, result, Duration.ofMinutes(1));
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.chaean.teamchatsa.domain.match.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.chaean.teamchatsa.domain.match.dto.request.MatchResultCreateRequest;
+import com.chaean.teamchatsa.domain.match.model.MatchResult;
+import com.chaean.teamchatsa.domain.match.repository.MatchResultRepository;
+import com.chaean.teamchatsa.domain.team.model.Team;
+import com.chaean.teamchatsa.domain.team.repository.TeamRepository;
+import com.chaean.teamchatsa.global.common.util.CacheKeyGenerator;
+import com.navercorp.fixturemonkey.FixtureMonkey;
+import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MatchResultServiceTest {
+
+	private static final Long HOME_TEAM_ID = 1L;
+	private static final Long AWAY_TEAM_ID = 2L;
+
+	private final FixtureMonkey fixtureMonkey = FixtureMonkey.builder()
+			.objectIntrospector(FieldReflectionArbitraryIntrospector.INSTANCE)
+			.defaultNotNull(true)
+			.build();
+	@InjectMocks
+	private MatchResultService matchResultService;
+	@Mock
+	private MatchResultRepository matchResultRepository;
+	@Mock
+	private TeamRepository teamRepository;
+	@Mock
+	private CacheKeyGenerator cacheKeyGen;
+
+	private MatchResultCreateRequest request(int homeScore, int awayScore) {
+		return fixtureMonkey.giveMeBuilder(MatchResultCreateRequest.class)
+				.set("homeTeamId", HOME_TEAM_ID)
+				.set("awayTeamId", AWAY_TEAM_ID)
+				.set("homeScore", homeScore)
+				.set("awayScore", awayScore)
+				.sample();
+	}
+
+	@Nested
+	@DisplayName("경기 결과 등록")
+	class RegisterMatchResult {
+
+		@Test
+		@DisplayName("성공 - 양 팀 승률 갱신 후 각 팀의 추천 결과 캐시 세대 증가")
+		void success() {
+			// given
+			Team homeTeam = Team.builder().id(HOME_TEAM_ID).build();
+			Team awayTeam = Team.builder().id(AWAY_TEAM_ID).build();
+			given(teamRepository.findById(HOME_TEAM_ID)).willReturn(Optional.of(homeTeam));
+			given(teamRepository.findById(AWAY_TEAM_ID)).willReturn(Optional.of(awayTeam));
+			given(matchResultRepository.countTotalMatches(HOME_TEAM_ID)).willReturn(4L);
+			given(matchResultRepository.countByWinnerTeamId(HOME_TEAM_ID)).willReturn(3L);
+			given(matchResultRepository.countTotalMatches(AWAY_TEAM_ID)).willReturn(2L);
+			given(matchResultRepository.countByWinnerTeamId(AWAY_TEAM_ID)).willReturn(0L);
+
+			// when
+			matchResultService.registerMatchResult(request(3, 1));
+
+			// then
+			verify(matchResultRepository).save(any(MatchResult.class));
+			assertThat(homeTeam.getWinRate()).isEqualTo(0.75);
+			assertThat(awayTeam.getWinRate()).isEqualTo(0.0);
+			verify(cacheKeyGen).increaseMatchRecommendationTeamGeneration(HOME_TEAM_ID);
+			verify(cacheKeyGen).increaseMatchRecommendationTeamGeneration(AWAY_TEAM_ID);
+		}
+
+		@Test
+		@DisplayName("집계된 경기가 없는 팀은 승률과 캐시 세대를 유지")
+		void noMatches() {
+			// given
+			given(teamRepository.findById(HOME_TEAM_ID)).willReturn(Optional.of(Team.builder().id(HOME_TEAM_ID).build()));
+			given(teamRepository.findById(AWAY_TEAM_ID)).willReturn(Optional.of(Team.builder().id(AWAY_TEAM_ID).build()));
+			given(matchResultRepository.countTotalMatches(HOME_TEAM_ID)).willReturn(1L);
+			given(matchResultRepository.countByWinnerTeamId(HOME_TEAM_ID)).willReturn(0L);
+			given(matchResultRepository.countTotalMatches(AWAY_TEAM_ID)).willReturn(0L);
+			given(matchResultRepository.countByWinnerTeamId(AWAY_TEAM_ID)).willReturn(0L);
+
+			// when
+			matchResultService.registerMatchResult(request(1, 1));
+
+			// then
+			verify(cacheKeyGen).increaseMatchRecommendationTeamGeneration(HOME_TEAM_ID);
+			verify(cacheKeyGen, never()).increaseMatchRecommendationTeamGeneration(AWAY_TEAM_ID);
+		}
+	}
+}
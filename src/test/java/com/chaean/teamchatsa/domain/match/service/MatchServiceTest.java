@@ -0,0 +1,144 @@
+package com.chaean.teamchatsa.domain.match.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.chaean.teamchatsa.domain.match.model.MatchApplication;
+import com.chaean.teamchatsa.domain.match.model.MatchApplicationStatus;
+import com.chaean.teamchatsa.domain.match.model.MatchPost;
+import com.chaean.teamchatsa.domain.match.model.MatchPostStatus;
+import com.chaean.teamchatsa.domain.match.repository.MatchApplicationRepository;
+import com.chaean.teamchatsa.domain.match.repository.MatchPostRepository;
+import com.chaean.teamchatsa.domain.team.model.Team;
+import com.chaean.teamchatsa.domain.team.repository.TeamRepository;
+import com.chaean.teamchatsa.domain.team.service.TeamMembershipResolver;
+import com.chaean.teamchatsa.global.common.util.CacheKeyGenerator;
+import com.chaean.teamchatsa.global.common.util.TieredCacheUtil;
+import com.chaean.teamchatsa.global.exception.BusinessException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class MatchServiceTest {
+
+	private static final Long USER_ID = 1L;
+	private static final Long MY_TEAM_ID = 10L;
+	private static final Long MATCH_ID = 100L;
+
+	@InjectMocks
+	private MatchService matchService;
+	@Mock
+	private MatchPostRepository matchPostRepo;
+	@Mock
+	private MatchApplicationRepository matchApplicationRepo;
+	@Mock
+	private TeamMembershipResolver membershipResolver;
+	@Mock
+	private TeamRepository teamRepo;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private TieredCacheUtil cacheUtil;
+	@Mock
+	private CacheKeyGenerator cacheKeyGen;
+
+	private MatchPost openMatchPost() {
+		return MatchPost.builder()
+				.id(MATCH_ID)
+				.teamId(MY_TEAM_ID)
+				.title("주말 풋살")
+				.headCount(5)
+				.matchDate(LocalDateTime.now().plusDays(1))
+				.region("서울")
+				.build();
+	}
+
+	@Nested
+	@DisplayName("매치 게시물 삭제")
+	class DeleteMatchPost {
+
+		@Test
+		@DisplayName("성공 - 매치 목록과 추천 결과 캐시 세대 증가")
+		void success() {
+			// given
+			MatchPost matchPost = openMatchPost();
+			given(matchPostRepo.findById(MATCH_ID)).willReturn(Optional.of(matchPost));
+			given(membershipResolver.findTeamId(USER_ID)).willReturn(MY_TEAM_ID);
+			given(matchApplicationRepo.existsByPostIdAndStatus(MATCH_ID, MatchApplicationStatus.PENDING))
+					.willReturn(false);
+
+			// when
+			matchService.deleteMatchPost(USER_ID, MATCH_ID);
+
+			// then
+			verify(matchPostRepo).delete(matchPost);
+			verify(cacheKeyGen).increaseMatchListGeneration("서울", 5);
+			verify(cacheKeyGen).increaseMatchRecommendationGeneration();
+		}
+
+		@Test
+		@DisplayName("실패 - 대기 중인 신청이 있으면 캐시를 무효화하지 않음")
+		void pendingApplication() {
+			// given
+			given(matchPostRepo.findById(MATCH_ID)).willReturn(Optional.of(openMatchPost()));
+			given(membershipResolver.findTeamId(USER_ID)).willReturn(MY_TEAM_ID);
+			given(matchApplicationRepo.existsByPostIdAndStatus(MATCH_ID, MatchApplicationStatus.PENDING))
+					.willReturn(true);
+
+			// when & then
+			assertThatThrownBy(() -> matchService.deleteMatchPost(USER_ID, MATCH_ID))
+					.isInstanceOf(BusinessException.class);
+			verify(cacheKeyGen, never()).increaseMatchRecommendationGeneration();
+		}
+	}
+
+	@Nested
+	@DisplayName("매치 신청 수락")
+	class AcceptMatchApplication {
+
+		@Test
+		@DisplayName("성공 - 게시물 마감 후 매치 목록과 추천 결과 캐시 세대 증가")
+		void success() {
+			// given
+			Long applicationId = 200L;
+			Long applicantTeamId = 20L;
+			MatchPost matchPost = openMatchPost();
+			MatchApplication application = MatchApplication.builder()
+					.id(applicationId)
+					.postId(MATCH_ID)
+					.applicantTeamId(applicantTeamId)
+					.build();
+			Team applicantTeam = Team.builder()
+					.id(applicantTeamId)
+					.name("상대팀")
+					.build();
+			given(matchPostRepo.findById(MATCH_ID)).willReturn(Optional.of(matchPost));
+			given(membershipResolver.findTeamId(USER_ID)).willReturn(MY_TEAM_ID);
+			given(matchApplicationRepo.findById(applicationId)).willReturn(Optional.of(application));
+			given(matchApplicationRepo.findAllByPostIdAndStatus(MATCH_ID, MatchApplicationStatus.PENDING))
+					.willReturn(List.of(application));
+			given(teamRepo.findById(applicantTeamId)).willReturn(Optional.of(applicantTeam));
+
+			// when
+			String teamName = matchService.acceptMatchApplication(MATCH_ID, applicationId, USER_ID);
+
+			// then
+			assertThat(teamName).isEqualTo("상대팀");
+			assertThat(matchPost.getStatus()).isEqualTo(MatchPostStatus.CLOSED);
+			verify(cacheKeyGen).increaseMatchListGeneration("서울", 5);
+			verify(cacheKeyGen).increaseMatchRecommendationGeneration();
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.chaean.teamchatsa.domain.team.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TeamStyleVectorTest {
+
+	private static final Duration HALF_LIFE = Duration.ofDays(30);
+	private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+	@Test
+	@DisplayName("누적 상태가 없으면 리뷰 벡터로 시작")
+	void startsFromFirstReview() {
+		// given
+		TeamStyleVector empty = new TeamStyleVector(null, 0, null);
+
+		// when
+		TeamStyleVector result = empty.add(new float[]{1f, 0f}, BASE, HALF_LIFE);
+
+		// then
+		assertThat(result.getVector()).containsExactly(1f, 0f);
+		assertThat(result.getWeight()).isEqualTo(1.0);
+		assertThat(result.getUpdatedAt()).isEqualTo(BASE);
+	}
+
+	@Test
+	@DisplayName("반감기가 지난 뒤 작성된 리뷰는 기존 평균보다 두 배 가중")
+	void decaysExistingWeight() {
+		// given
+		TeamStyleVector current = new TeamStyleVector(new float[]{1f, 0f}, 1.0, BASE);
+
+		// when
+		TeamStyleVector result = current.add(new float[]{0f, 1f}, BASE.plus(HALF_LIFE), HALF_LIFE);
+
+		// then
+		assertThat(result.getVector()[0]).isCloseTo(1f / 3, within(1e-6f));
+		assertThat(result.getVector()[1]).isCloseTo(2f / 3, within(1e-6f));
+		assertThat(result.getWeight()).isCloseTo(1.5, within(1e-9));
+		assertThat(result.getUpdatedAt()).isEqualTo(BASE.plus(HALF_LIFE));
+	}
+
+	@Test
+	@DisplayName("늦게 처리된 과거 리뷰는 기준 시각을 유지하고 리뷰 가중치를 감쇠")
+	void decaysOlderReview() {
+		// given
+		TeamStyleVector current = new TeamStyleVector(new float[]{1f, 0f}, 1.0, BASE);
+
+		// when
+		TeamStyleVector result = current.add(new float[]{0f, 1f}, BASE.minus(HALF_LIFE), HALF_LIFE);
+
+		// then
+		assertThat(result.getVector()[0]).isCloseTo(2f / 3, within(1e-6f));
+		assertThat(result.getVector()[1]).isCloseTo(1f / 3, within(1e-6f));
+		assertThat(result.getUpdatedAt()).isEqualTo(BASE);
+	}
+}
@@ -0,0 +1,92 @@
+package com.chaean.teamchatsa.domain.team.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.chaean.teamchatsa.domain.team.model.TeamMember;
+import com.chaean.teamchatsa.domain.team.model.TeamRole;
+import com.chaean.teamchatsa.domain.team.repository.TeamMemberRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class TeamMembershipResolverTest {
+
+	@InjectMocks
+	private TeamMembershipResolver membershipResolver;
+	@Mock
+	private TeamMemberRepository teamMemberRepo;
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("같은 요청 안에서는 소속 조회를 한 번만 수행")
+	void resolveOncePerRequest() {
+		// given
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		Long userId = 1L;
+		given(teamMemberRepo.findByUserId(userId))
+				.willReturn(Optional.of(TeamMember.create(10L, userId, TeamRole.LEADER)));
+
+		// when
+		Long teamId = membershipResolver.findTeamId(userId);
+		Optional<TeamRole> role = membershipResolver.findRole(10L, userId);
+		Optional<TeamRole> otherTeamRole = membershipResolver.findRole(20L, userId);
+
+		// then
+		assertThat(teamId).isEqualTo(10L);
+		assertThat(role).contains(TeamRole.LEADER);
+		assertThat(otherTeamRole).isEmpty();
+		verify(teamMemberRepo, times(1)).findByUserId(userId);
+	}
+
+	@Test
+	@DisplayName("소속 변경 후 제거하면 다시 조회")
+	void evictReloads() {
+		// given
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		Long userId = 1L;
+		given(teamMemberRepo.findByUserId(userId))
+				.willReturn(Optional.empty())
+				.willReturn(Optional.of(TeamMember.create(10L, userId, TeamRole.MEMBER)));
+
+		// when
+		boolean before = membershipResolver.hasTeam(userId);
+		membershipResolver.evict(userId);
+		boolean after = membershipResolver.hasTeam(userId);
+
+		// then
+		assertThat(before).isFalse();
+		assertThat(after).isTrue();
+		verify(teamMemberRepo, times(2)).findByUserId(userId);
+	}
+
+	@Test
+	@DisplayName("요청 밖에서는 매번 조회")
+	void noRequestContext() {
+		// given
+		Long userId = 1L;
+		given(teamMemberRepo.findByUserId(userId)).willReturn(Optional.empty());
+
+		// when
+		membershipResolver.hasTeam(userId);
+		membershipResolver.hasTeam(userId);
+
+		// then
+		verify(teamMemberRepo, times(2)).findByUserId(userId);
+	}
+}
@@ -63,6 +63,8 @@ class TeamServiceTest {
 	private UserRepository userRepo;
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
+	@Mock
+	private TeamMembershipResolver membershipResolver;
 
 	@Nested
 	@DisplayName("팀 등록")
@@ -76,7 +78,7 @@ class TeamServiceTest {
 			TeamCreateRequest req = fixtureMonkey.giveMeBuilder(TeamCreateRequest.class)
 					.set("level", 3)
 					.sample();
-			given(teamMemberRepo.existsByUserId(userId)).willReturn(false);
+			given(membershipResolver.hasTeam(userId)).willReturn(false);
 			given(teamRepo.existsByName(req.getName())).willReturn(false);
 
 			// when
@@ -95,7 +97,7 @@ class TeamServiceTest {
 			TeamCreateRequest req = fixtureMonkey.giveMeBuilder(TeamCreateRequest.class)
 					.set("level", 3)
 					.sample();
-			given(teamMemberRepo.existsByUserId(userId)).willReturn(true);
+			given(membershipResolver.hasTeam(userId)).willReturn(true);
 
 			// when
 			// then
@@ -112,7 +114,7 @@ class TeamServiceTest {
 			TeamCreateRequest req = fixtureMonkey.giveMeBuilder(TeamCreateRequest.class)
 					.set("level", 3)
 					.sample();
-			given(teamMemberRepo.existsByUserId(userId)).willReturn(false);
+			given(membershipResolver.hasTeam(userId)).willReturn(false);
 			given(teamRepo.existsByName(req.getName())).willReturn(true);
 
 			// when
@@ -130,7 +132,7 @@ class TeamServiceTest {
 			TeamCreateRequest req = fixtureMonkey.giveMeBuilder(TeamCreateRequest.class)
 					.set("level", 99)
 					.sample();
-			given(teamMemberRepo.existsByUserId(userId)).willReturn(false);
+			given(membershipResolver.hasTeam(userId)).willReturn(false);
 			given(teamRepo.existsByName(req.getName())).willReturn(false);
 
 			// when
@@ -157,7 +159,7 @@ class TeamServiceTest {
 			given(teamRepo.findTeamListWithPagination(pageable, level)).willReturn(sliceFromRepo);
 
 			// when
-			SliceResponse<TeamListResponse> result = teamService.findTeamList(page, size, teamName, level);
+			SliceResponse<TeamListResponse> result = teamService.findTeamList(page, size, null, teamName, level);
 
 			// then
 			assertThat(result.getContent()).isEmpty();
@@ -177,12 +179,47 @@ class TeamServiceTest {
 			given(teamRepo.findTeamListByNameWithPagination(pageable, teamName, level)).willReturn(sliceFromRepo);
 
 			// when
-			SliceResponse<TeamListResponse> result = teamService.findTeamList(page, size, teamName, level);
+			SliceResponse<TeamListResponse> result = teamService.findTeamList(page, size, null, teamName, level);
 
 			// then
 			assertThat(result.getContent()).isEmpty();
 			assertThat(result.isLast()).isTrue();
 		}
+
+		@Test
+		@DisplayName("성공 - 커서 기반 조회")
+		void success_with_cursor() {
+			// given
+			String cursor = "";
+			Integer level = null;
+			SliceResponse<TeamListResponse> sliceFromRepo = SliceResponse.of(Collections.emptyList(), true, null);
+			given(teamRepo.findTeamListWithCursor(cursor, 10, level)).willReturn(sliceFromRepo);
+
+			// when
+			SliceResponse<TeamListResponse> result = teamService.findTeamList(0, 10, cursor, null, level);
+
+			// then
+			assertThat(result.getContent()).isEmpty();
+			assertThat(result.getNextCursor()).isNull();
+		}
+
+		@Test
+		@DisplayName("성공 - 팀명 필터 + 커서 기반 조회")
+		void success_with_filter_and_cursor() {
+			// given
+			String cursor = "MC41fDEw";
+			String teamName = "테스트팀";
+			Integer level = 3;
+			SliceResponse<TeamListResponse> sliceFromRepo = SliceResponse.of(Collections.emptyList(), false, "next");
+			given(teamRepo.findTeamListByNameWithCursor(cursor, 10, teamName, level)).willReturn(sliceFromRepo);
+
+			// when
+			SliceResponse<TeamListResponse> result = teamService.findTeamList(0, 10, cursor, teamName, level);
+
+			// then
+			assertThat(result.isLast()).isFalse();
+			assertThat(result.getNextCursor()).isEqualTo("next");
+		}
 	}
 
 	@Nested
@@ -200,9 +237,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(team.getId())).willReturn(Optional.of(team));
-			given(teamMemberRepo.countByTeamId(team.getId())).willReturn(1L);
-			given(teamMemberRepo.findByTeamIdAndUserId(team.getId(), teamMember.getUserId()))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(team.getId(), teamMember.getUserId()))
+					.willReturn(Optional.of(teamMember.getRole()));
 
 			// when
 			TeamDetailResponse result = teamService.findTeamDetail(team.getId(), teamMember.getUserId());
@@ -211,6 +247,7 @@ class TeamServiceTest {
 			assertThat(result.getName()).isEqualTo(team.getName());
 			assertThat(result.getLevel()).isEqualTo(team.getLevel().getValue());
 			assertThat(result.getLevelLabel()).isEqualTo(team.getLevel().getDescription());
+			assertThat(result.getMemberCount()).isEqualTo(team.getMemberCount());
 			assertThat(result.getUserRole()).isEqualTo(TeamRole.LEADER);
 		}
 
@@ -222,8 +259,7 @@ class TeamServiceTest {
 			Long userId = 2L;
 
 			given(teamRepo.findById(team.getId())).willReturn(Optional.of(team));
-			given(teamMemberRepo.countByTeamId(team.getId())).willReturn(1L);
-			given(teamMemberRepo.findByTeamIdAndUserId(team.getId(), userId))
+			given(membershipResolver.findRole(team.getId(), userId))
 					.willReturn(Optional.empty());
 
 			// when
@@ -276,7 +312,7 @@ class TeamServiceTest {
 					.set("status", JoinStatus.PENDING)
 					.sample();
 
-			given(teamMemberRepo.existsByUserId(userId)).willReturn(false);
+			given(membershipResolver.hasTeam(userId)).willReturn(false);
 			given(teamJoinRequestRepo.existsByTeamIdAndUserId(teamId, userId)).willReturn(false);
 			given(teamRepo.existsById(teamId)).willReturn(true);
 			given(userRepo.findById(userId)).willReturn(Optional.of(applicant));
@@ -431,8 +467,8 @@ class TeamServiceTest {
 			List<TeamApplicationResponse> expected = Collections.emptyList();
 
 			given(teamRepo.existsById(teamId)).willReturn(true);
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 			given(teamJoinRequestRepo.findApplicationsByTeamIdAndStatus(teamId, JoinStatus.PENDING))
 					.willReturn(expected);
 
@@ -442,7 +478,7 @@ class TeamServiceTest {
 			// then
 			assertThat(result).isEqualTo(expected);
 			verify(teamRepo).existsById(teamId);
-			verify(teamMemberRepo).findByTeamIdAndUserId(teamId, userId);
+			verify(membershipResolver).findRole(teamId, userId);
 			verify(teamJoinRequestRepo).findApplicationsByTeamIdAndStatus(teamId, JoinStatus.PENDING);
 		}
 
@@ -460,8 +496,8 @@ class TeamServiceTest {
 			List<TeamApplicationResponse> expected = Collections.emptyList();
 
 			given(teamRepo.existsById(teamId)).willReturn(true);
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 			given(teamJoinRequestRepo.findApplicationsByTeamIdAndStatus(teamId, JoinStatus.PENDING))
 					.willReturn(expected);
 
@@ -494,7 +530,7 @@ class TeamServiceTest {
 			Long teamId = 1L;
 			Long userId = 1L;
 			given(teamRepo.existsById(teamId)).willReturn(true);
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
+			given(membershipResolver.findRole(teamId, userId))
 					.willReturn(Optional.empty());
 
 			// when
@@ -517,8 +553,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.existsById(teamId)).willReturn(true);
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 
 			// when
 			// then
@@ -558,8 +594,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(teamId)).willReturn(Optional.of(team));
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 			given(teamJoinRequestRepo.findByIdAndTeamId(application.getId(), teamId))
 					.willReturn(Optional.of(application));
 			given(teamMemberRepo.existsByUserId(application.getUserId())).willReturn(false);
@@ -572,6 +608,7 @@ class TeamServiceTest {
 			// then
 			assertThat(application.getStatus()).isEqualTo(JoinStatus.ACCEPTED);
 			verify(teamMemberRepo).save(any(TeamMember.class));
+			verify(teamRepo).updateMemberCount(teamId, 1);
 			verify(teamJoinRequestRepo).findPendingApplicationsByUserIdExcluding(application.getUserId(), application.getId());
 		}
 
@@ -613,8 +650,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(teamId)).willReturn(Optional.of(team));
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 			given(teamJoinRequestRepo.findByIdAndTeamId(acceptedApplication.getId(), teamId))
 					.willReturn(Optional.of(acceptedApplication));
 			given(teamMemberRepo.existsByUserId(acceptedApplication.getUserId())).willReturn(false);
@@ -670,8 +707,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(teamId)).willReturn(Optional.of(team));
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 
 			// when
 			// then
@@ -700,8 +737,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(teamId)).willReturn(Optional.of(team));
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 			given(teamJoinRequestRepo.findByIdAndTeamId(applicationId, teamId))
 					.willReturn(Optional.empty());
 
@@ -737,8 +774,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(teamId)).willReturn(Optional.of(team));
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 			given(teamJoinRequestRepo.findByIdAndTeamId(application.getId(), teamId))
 					.willReturn(Optional.of(application));
 
@@ -774,8 +811,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(teamId)).willReturn(Optional.of(team));
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 			given(teamJoinRequestRepo.findByIdAndTeamId(application.getId(), teamId))
 					.willReturn(Optional.of(application));
 			given(teamMemberRepo.existsByUserId(application.getUserId())).willReturn(true);
@@ -817,8 +854,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(teamId)).willReturn(Optional.of(team));
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 			given(teamJoinRequestRepo.findByIdAndTeamId(application.getId(), teamId))
 					.willReturn(Optional.of(application));
 
@@ -865,8 +902,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(teamId)).willReturn(Optional.of(team));
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 
 			// when
 			// then
@@ -900,8 +937,8 @@ class TeamServiceTest {
 					.sample();
 
 			given(teamRepo.findById(teamId)).willReturn(Optional.of(team));
-			given(teamMemberRepo.findByTeamIdAndUserId(teamId, userId))
-					.willReturn(Optional.of(teamMember));
+			given(membershipResolver.findRole(teamId, userId))
+					.willReturn(Optional.of(teamMember.getRole()));
 			given(teamJoinRequestRepo.findByIdAndTeamId(application.getId(), teamId))
 					.willReturn(Optional.of(application));
 
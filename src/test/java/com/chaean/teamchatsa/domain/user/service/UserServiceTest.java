@@ -19,6 +19,7 @@ import com.chaean.teamchatsa.domain.user.model.User;
 import com.chaean.teamchatsa.domain.user.repository.OAuthAccountRepository;
 import com.chaean.teamchatsa.domain.user.repository.UserRepository;
 import com.chaean.teamchatsa.global.exception.BusinessException;
+import com.chaean.teamchatsa.global.jwt.PrincipalCache;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import com.navercorp.fixturemonkey.api.introspector.FieldReflectionArbitraryIntrospector;
 import java.util.Optional;
@@ -46,6 +47,8 @@ class UserServiceTest {
 	private OAuthAccountRepository authRepo;
 	@Mock
 	private PasswordEncoder encoder;
+	@Mock
+	private PrincipalCache principalCache;
 	@InjectMocks
 	private UserService userService;
 
@@ -136,6 +139,7 @@ class UserServiceTest {
 			//then
 			verify(userRepo).findById(user.getId());
 			verify(spyUser).update(req);
+			verify(principalCache).evict(user.getId());
 			verifyNoMoreInteractions(userRepo);
 		}
 
@@ -319,6 +323,7 @@ class UserServiceTest {
 			//then
 			verify(userRepo).findById(user.getId());
 			verify(userRepo).delete(spyUser);
+			verify(principalCache).evict(user.getId());
 			verifyNoMoreInteractions(userRepo);
 		}
 
@@ -0,0 +1,115 @@
+package com.chaean.teamchatsa.global.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.chaean.teamchatsa.domain.match.dto.request.MatchPostSearchRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CacheKeyGeneratorTest {
+
+	@InjectMocks
+	private CacheKeyGenerator cacheKeyGen;
+	@Mock
+	private CacheGenerationManager generationManager;
+
+	@Nested
+	@DisplayName("매치 목록 캐시 키 생성")
+	class GenerateMatchListKey {
+
+		@Test
+		@DisplayName("필터 없음 - 전체 스코프 세대 사용")
+		void unfiltered() {
+			// given
+			MatchPostSearchRequest req = new MatchPostSearchRequest();
+			given(generationManager.current("cache:gen:match:list:all")).willReturn(3L);
+
+			// when
+			String key = cacheKeyGen.generateMatchListKey(req);
+
+			// then
+			assertThat(key).isEqualTo("match:list:v3:0:10");
+		}
+
+		@Test
+		@DisplayName("headCount + region 필터 - 조합 스코프 세대 사용")
+		void headCountAndRegion() {
+			// given
+			MatchPostSearchRequest req = new MatchPostSearchRequest();
+			req.setPage(2);
+			req.setHeadCount(11);
+			req.setRegion("서울");
+			given(generationManager.current("cache:gen:match:list:hc11:rg서울")).willReturn(7L);
+
+			// when
+			String key = cacheKeyGen.generateMatchListKey(req);
+
+			// then
+			assertThat(key).isEqualTo("match:list:v7:2:10:hc11:rg서울");
+		}
+	}
+
+	@Test
+	@DisplayName("게시물 변경 시 게시물이 노출될 수 있는 스코프만 세대 증가")
+	void increaseMatchListGeneration() {
+		// when
+		cacheKeyGen.increaseMatchListGeneration("부산", 6);
+
+		// then
+		verify(generationManager).increase(
+				"cache:gen:match:list:all",
+				"cache:gen:match:list:hc6",
+				"cache:gen:match:list:rg부산",
+				"cache:gen:match:list:hc6:rg부산"
+		);
+	}
+
+	@Nested
+	@DisplayName("매치 추천 결과 캐시 키 생성")
+	class GenerateMatchRecommendationKey {
+
+		@Test
+		@DisplayName("전체 세대와 팀 세대를 모두 포함하고 검색어는 해시로 변환")
+		void includesGenerations() {
+			// given
+			given(generationManager.current("cache:gen:match:recommend:all")).willReturn(4L);
+			given(generationManager.current("cache:gen:match:recommend:team:10")).willReturn(2L);
+
+			// when
+			String key = cacheKeyGen.generateMatchRecommendationKey(10L, "강한 팀*");
+
+			// then
+			assertThat(key).startsWith("match:recommend:v4.2:10:");
+			assertThat(key).doesNotContain("강한 팀*");
+		}
+
+		@Test
+		@DisplayName("검색어가 다르면 다른 키 생성")
+		void differentQuery() {
+			// when
+			String first = cacheKeyGen.generateMatchRecommendationKey(10L, "강한 팀");
+			String second = cacheKeyGen.generateMatchRecommendationKey(10L, "매너 좋은 팀");
+
+			// then
+			assertThat(first).isNotEqualTo(second);
+		}
+	}
+
+	@Test
+	@DisplayName("팀 승률 변경 시 해당 팀의 추천 세대만 증가")
+	void increaseMatchRecommendationTeamGeneration() {
+		// when
+		cacheKeyGen.increaseMatchRecommendationTeamGeneration(10L);
+
+		// then
+		verify(generationManager).increase("cache:gen:match:recommend:team:10");
+	}
+}
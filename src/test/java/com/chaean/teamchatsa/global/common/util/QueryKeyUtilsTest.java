@@ -0,0 +1,26 @@
+package com.chaean.teamchatsa.global.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QueryKeyUtilsTest {
+
+	@Test
+	@DisplayName("앞뒤 공백 제거, 연속 공백 축약, 소문자 변환")
+	void normalize() {
+		assertThat(QueryKeyUtils.normalize("  Fast   PASS\t팀 ")).isEqualTo("fast pass 팀");
+	}
+
+	@Test
+	@DisplayName("정규화 결과가 같으면 같은 해시, 해시는 패딩 없는 Base64URL")
+	void sha256() {
+		// when
+		String left = QueryKeyUtils.sha256(QueryKeyUtils.normalize("수비  좋은 팀"));
+		String right = QueryKeyUtils.sha256(QueryKeyUtils.normalize(" 수비 좋은 팀"));
+
+		// then
+		assertThat(left).isEqualTo(right).hasSize(43).doesNotContain("=", "+", "/");
+	}
+}
@@ -0,0 +1,52 @@
+package com.chaean.teamchatsa.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.chaean.teamchatsa.domain.user.model.UserRole;
+import com.chaean.teamchatsa.global.jwt.JwtProvider.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class JwtProviderTest {
+
+	private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key-0123";
+
+	private final JwtProvider jwtProvider = new JwtProvider(SECRET, 30, 14);
+
+	@Nested
+	@DisplayName("Access Token 검증")
+	class Verify {
+
+		@Test
+		@DisplayName("성공 - 사용자 ID와 role 클레임 반환, 같은 토큰은 캐시된 결과 재사용")
+		void cached() {
+			// given
+			String token = jwtProvider.createAccessToken(7L, UserRole.USER);
+
+			// when
+			VerifiedToken first = jwtProvider.verify(token);
+			VerifiedToken second = jwtProvider.verify(token);
+
+			// then
+			assertThat(first.getUserId()).isEqualTo(7L);
+			assertThat(first.getRole()).isEqualTo(UserRole.USER.name());
+			assertThat(first.getExpiresAt()).isNotNull();
+			assertThat(second).isSameAs(first);
+		}
+
+		@Test
+		@DisplayName("서명이 변조된 토큰 - 예외 발생")
+		void tampered() {
+			// given
+			String token = jwtProvider.createAccessToken(7L, UserRole.USER);
+			String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+			// when & then
+			assertThatThrownBy(() -> jwtProvider.verify(tampered))
+					.isInstanceOf(JwtException.class);
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package com.chaean.teamchatsa.global.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventServiceTest {
+
+	private static final int MAX_ATTEMPTS = 5;
+	private static final long BASE_DELAY_MILLIS = 5_000L;
+	private static final long MAX_DELAY_MILLIS = 30_000L;
+
+	@InjectMocks
+	private OutboxEventService outboxEventService;
+	@Mock
+	private OutboxEventRepository outboxEventRepo;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(outboxEventService, "maxAttempts", MAX_ATTEMPTS);
+		ReflectionTestUtils.setField(outboxEventService, "retryBaseDelayMillis", BASE_DELAY_MILLIS);
+		ReflectionTestUtils.setField(outboxEventService, "retryMaxDelayMillis", MAX_DELAY_MILLIS);
+	}
+
+	private OutboxEvent event(int attempts) {
+		return OutboxEvent.builder()
+				.id(1L)
+				.eventType("TeamReviewCreatedEvent")
+				.handler("teamAi")
+				.payload("{}")
+				.attempts(attempts)
+				.nextAttemptAt(LocalDateTime.now())
+				.build();
+	}
+
+	// reschedule에 전달된 다음 시도 시각과 호출 시각 사이의 지연
+	private Duration rescheduledDelay() {
+		ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+		ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(outboxEventRepo).reschedule(eq(1L), nextAttemptAt.capture(), anyString(), now.capture());
+		return Duration.between(now.getValue(), nextAttemptAt.getValue());
+	}
+
+	@Nested
+	@DisplayName("처리 실패 기록")
+	class MarkFailed {
+
+		@Test
+		@DisplayName("첫 실패 - 기본 지연 후 재시도 예약")
+		void firstFailure() {
+			// when
+			boolean dead = outboxEventService.markFailed(event(1), new IllegalStateException("boom"));
+
+			// then
+			assertThat(dead).isFalse();
+			assertThat(rescheduledDelay()).isEqualTo(Duration.ofMillis(BASE_DELAY_MILLIS));
+			verify(outboxEventRepo, never()).markDead(anyLong(), anyString(), any());
+		}
+
+		@Test
+		@DisplayName("실패가 반복되면 지연을 두 배씩 증가")
+		void exponentialBackoff() {
+			// when
+			outboxEventService.markFailed(event(3), new IllegalStateException("boom"));
+
+			// then
+			assertThat(rescheduledDelay()).isEqualTo(Duration.ofMillis(BASE_DELAY_MILLIS * 4));
+		}
+
+		@Test
+		@DisplayName("지연은 최대 지연을 넘지 않음")
+		void cappedDelay() {
+			// when
+			outboxEventService.markFailed(event(4), new IllegalStateException("boom"));
+
+			// then
+			assertThat(rescheduledDelay()).isEqualTo(Duration.ofMillis(MAX_DELAY_MILLIS));
+		}
+
+		@Test
+		@DisplayName("최대 시도 횟수 도달 - 데드레터 전환")
+		void dead() {
+			// when
+			boolean dead = outboxEventService.markFailed(event(MAX_ATTEMPTS), new IllegalStateException("boom"));
+
+			// then
+			assertThat(dead).isTrue();
+			verify(outboxEventRepo).markDead(eq(1L), eq("IllegalStateException: boom"), any());
+			verify(outboxEventRepo, never()).reschedule(anyLong(), any(), anyString(), any());
+		}
+
+		@Test
+		@DisplayName("긴 오류 메시지는 잘라서 기록")
+		void truncatesLastError() {
+			// given
+			String message = "x".repeat(2_000);
+
+			// when
+			outboxEventService.markFailed(event(1), new IllegalStateException(message));
+
+			// then
+			ArgumentCaptor<String> lastError = ArgumentCaptor.forClass(String.class);
+			verify(outboxEventRepo).reschedule(eq(1L), any(), lastError.capture(), any());
+			assertThat(lastError.getValue()).hasSize(1_000).startsWith("IllegalStateException: ");
+		}
+	}
+}
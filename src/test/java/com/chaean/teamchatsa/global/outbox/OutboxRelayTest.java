@@ -0,0 +1,207 @@
+package com.chaean.teamchatsa.global.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.chaean.teamchatsa.global.config.AsyncConfig;
+import com.chaean.teamchatsa.global.outbox.OutboxHandlerRegistry.OutboxHandler;
+import com.chaean.teamchatsa.infra.slack.SlackAlertService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+	private static final String HANDLER_NAME = "testHandler";
+	private static final String HANDLER_EXECUTOR = "testExecutor";
+
+	@Mock
+	private OutboxEventService outboxEventService;
+	@Mock
+	private OutboxHandlerRegistry handlerRegistry;
+	@Mock
+	private SlackAlertService slackAlertService;
+	@Mock
+	private ThreadPoolTaskExecutor defaultExecutor;
+	@Mock
+	private ThreadPoolTaskExecutor handlerExecutor;
+	@Mock
+	private OutboxHandler handler;
+
+	private OutboxRelay outboxRelay;
+
+	private final OutboxEvent event = OutboxEvent.builder()
+			.id(1L)
+			.eventType("TestEvent")
+			.handler(HANDLER_NAME)
+			.payload("{\"teamId\":10}")
+			.attempts(1)
+			.nextAttemptAt(LocalDateTime.now())
+			.build();
+
+	@BeforeEach
+	void setUp() {
+		outboxRelay = new OutboxRelay(
+				outboxEventService,
+				handlerRegistry,
+				new ObjectMapper(),
+				slackAlertService,
+				Map.of(AsyncConfig.DEFAULT_EXECUTOR, defaultExecutor, HANDLER_EXECUTOR, handlerExecutor),
+				100,
+				300_000L
+		);
+
+		// 실행기는 호출 스레드에서 바로 실행
+		lenient().doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(defaultExecutor).execute(any(Runnable.class));
+		lenient().doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(handlerExecutor).execute(any(Runnable.class));
+
+		given(outboxEventService.claim(anyInt(), any(Duration.class))).willReturn(List.of(event));
+	}
+
+	private void givenRegisteredHandler() {
+		given(handlerRegistry.getHandler(HANDLER_NAME)).willReturn(handler);
+		given(handler.getExecutor()).willReturn(HANDLER_EXECUTOR);
+		willReturn(TestEvent.class).given(handler).getEventType();
+	}
+
+	@Nested
+	@DisplayName("이벤트 전달")
+	class Dispatch {
+
+		@Test
+		@DisplayName("성공 - 핸들러 실행기에서 페이로드를 역직렬화해 전달하고 처리 완료 기록")
+		void success() throws Exception {
+			// given
+			givenRegisteredHandler();
+
+			// when
+			outboxRelay.relay();
+
+			// then
+			ArgumentCaptor<Object> delivered = ArgumentCaptor.forClass(Object.class);
+			verify(handler).invoke(delivered.capture());
+			assertThat(delivered.getValue()).isInstanceOf(TestEvent.class);
+			assertThat(((TestEvent) delivered.getValue()).getTeamId()).isEqualTo(10L);
+			verify(handlerExecutor).execute(any(Runnable.class));
+			verify(defaultExecutor, never()).execute(any(Runnable.class));
+			verify(outboxEventService).markProcessed(1L);
+		}
+
+		@Test
+		@DisplayName("핸들러 실패 - 재시도 예약, 알림 없음")
+		void retry() throws Exception {
+			// given
+			givenRegisteredHandler();
+			IllegalStateException error = new IllegalStateException("boom");
+			willThrow(error).given(handler).invoke(any());
+			given(outboxEventService.markFailed(event, error)).willReturn(false);
+
+			// when
+			outboxRelay.relay();
+
+			// then
+			verify(outboxEventService).markFailed(event, error);
+			verify(outboxEventService, never()).markProcessed(any());
+			verify(slackAlertService, never()).sendAsyncFailureAlert(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("최대 시도 초과 - 데드레터 전환 후 슬랙 알림")
+		void dead() throws Exception {
+			// given
+			givenRegisteredHandler();
+			IllegalStateException error = new IllegalStateException("boom");
+			willThrow(error).given(handler).invoke(any());
+			given(outboxEventService.markFailed(event, error)).willReturn(true);
+
+			// when
+			outboxRelay.relay();
+
+			// then
+			verify(slackAlertService).sendAsyncFailureAlert(eq(HANDLER_NAME), eq("boom"), any());
+		}
+
+		@Test
+		@DisplayName("등록되지 않은 핸들러 - 기본 실행기에서 실패로 기록")
+		void unknownHandler() {
+			// given
+			given(handlerRegistry.getHandler(HANDLER_NAME)).willReturn(null);
+
+			// when
+			outboxRelay.relay();
+
+			// then
+			verify(defaultExecutor).execute(any(Runnable.class));
+			verify(outboxEventService).markFailed(eq(event), any(IllegalStateException.class));
+			verify(outboxEventService, never()).markProcessed(any());
+		}
+
+		@Test
+		@DisplayName("실행기 포화 - 시도 횟수 차감 없이 연기")
+		void rejected() throws Exception {
+			// given
+			givenRegisteredHandler();
+			willThrow(new TaskRejectedException("full")).given(handlerExecutor).execute(any(Runnable.class));
+
+			// when
+			outboxRelay.relay();
+
+			// then
+			verify(outboxEventService).postpone(eq(event), any(Duration.class));
+			verify(handler, never()).invoke(any());
+			verify(outboxEventService, never()).markFailed(any(), any());
+		}
+
+		@Test
+		@DisplayName("실패 기록 중 예외 - 폴링을 중단하지 않음")
+		void markFailedError() throws Exception {
+			// given
+			givenRegisteredHandler();
+			IllegalStateException error = new IllegalStateException("boom");
+			willThrow(error).given(handler).invoke(any());
+			given(outboxEventService.markFailed(event, error)).willThrow(new IllegalStateException("db down"));
+
+			// when
+			outboxRelay.relay();
+
+			// then
+			verify(outboxEventService).markFailed(event, error);
+			verify(slackAlertService, never()).sendAsyncFailureAlert(any(), any(), any());
+		}
+	}
+
+	@Getter
+	@NoArgsConstructor
+	static class TestEvent implements DomainEvent {
+		private Long teamId;
+	}
+}